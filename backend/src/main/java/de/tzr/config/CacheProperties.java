@@ -0,0 +1,50 @@
+package de.tzr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Articles articles = new Articles();
+    private Edge edge = new Edge();
+    private Responses responses = new Responses();
+    private ReferenceData referenceData = new ReferenceData();
+
+    @Data
+    public static class Articles {
+        /** Full article DTOs held per (slug, language); least recently used entries are evicted first. */
+        private int maxEntries = 1000;
+    }
+
+    @Data
+    public static class Responses {
+        /** Total size of the cached response bodies, identity and gzip variants together. */
+        private long maxBytes = 64L * 1024 * 1024;
+    }
+
+    @Data
+    public static class ReferenceData {
+        /** Entries per Hibernate second-level cache region (categories, authors, tags). */
+        private long maxEntries = 10_000;
+        /** Cached query results (reference data looked up by slug, the category list). */
+        private long maxQueries = 1_000;
+    }
+
+    @Data
+    public static class Edge {
+        /** Shared-cache lifetime of article pages, the featured article and the homepage, which are purged on change. */
+        private Duration articleTtl = Duration.ofHours(1);
+        /** Shared-cache lifetime of lists, search and reference data, which expire instead of being purged. */
+        private Duration listTtl = Duration.ofMinutes(1);
+        /** How long an expired copy may still be served while the proxy refetches it in the background. */
+        private Duration staleWhileRevalidate = Duration.ofMinutes(10);
+        /** Base URL of the proxy's refresh listener; blank logs purges instead of sending them. */
+        private String purgeUrl = "";
+    }
+}
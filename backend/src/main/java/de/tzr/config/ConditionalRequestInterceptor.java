@@ -0,0 +1,104 @@
+package de.tzr.config;
+
+import de.tzr.service.ContentRevision;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ETag and Last-Modified for public GETs, decided before the controller runs: a matching
+ * If-None-Match or If-Modified-Since is answered with 304 without reaching the service layer.
+ * Article pages are validated by their own version, everything else by the global revision.
+ * <p>
+ * Also decides the shared-cache policy: browsers always revalidate, the proxy keeps pages that
+ * are purged on change ({@link de.tzr.service.EdgeCachePurger}) for the article TTL and
+ * everything else for the list TTL. It is sent with the 304s and cached bytes answered here;
+ * responses from the controller get it from {@link SharedCacheControlAdvice}, and only when
+ * they succeed.
+ * <p>
+ * GETs that get past the validators are answered from {@link ResponseBytesCache} when it holds
+ * the bytes for this URL and validator.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    /** Set on the public GETs and HEADs this interceptor let through; holds the matched pattern. */
+    static final String PATTERN_ATTRIBUTE = ConditionalRequestInterceptor.class.getName() + ".pattern";
+
+    private static final Set<String> ARTICLE_PATTERNS = Set.of(
+        "/api/public/articles/{slug}", "/api/public/articles/{slug}/translations");
+    private static final Set<String> PURGED_PATTERNS = Set.of(
+        "/api/public/articles/{slug}", "/api/public/articles/{slug}/translations",
+        "/api/public/articles/featured", "/api/public/pages/home");
+
+    private final ContentRevision contentRevision;
+    private final CacheProperties cacheProperties;
+    private final ResponseBytesCache responseBytesCache;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) return true;
+
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        request.setAttribute(PATTERN_ATTRIBUTE, pattern);
+        // JSON, Smile or CBOR by content negotiation
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        ContentRevision.Validator validator;
+        if (ARTICLE_PATTERNS.contains(pattern)) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            validator = contentRevision.article(variables.get("slug")).orElse(null);
+            if (validator == null) return true;
+        } else {
+            validator = contentRevision.global();
+        }
+        // sets both validators on the response; true means the 304 is already prepared
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + validator.etag() + "\"", validator.lastModified())) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(pattern, HttpServletResponse.SC_NOT_MODIFIED));
+            return false;
+        }
+        if (!"GET".equals(method) || ResponseBytesCache.UNCACHED_PATTERNS.contains(pattern)) return true;
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ResponseBytesCache.Key key = ResponseBytesCache.key(request, validator.etag());
+        if (responseBytesCache.serve(key, request, response, cacheControl(pattern, HttpServletResponse.SC_OK))) return false;
+        request.setAttribute(ResponseBytesCache.KEY_ATTRIBUTE, key);
+        return true;
+    }
+
+    /**
+     * Cache-Control for a public GET answered with the given status. Errors are not stored,
+     * except a 404 on a purged page: a purge must replace the proxy's copy of an article that
+     * is gone, and the 404 then lives for the list TTL only.
+     */
+    String cacheControl(String pattern, int status) {
+        CacheProperties.Edge edge = cacheProperties.getEdge();
+        Duration sMaxAge;
+        if (status < 400) {
+            sMaxAge = PURGED_PATTERNS.contains(pattern) ? edge.getArticleTtl() : edge.getListTtl();
+        } else if (status == HttpServletResponse.SC_NOT_FOUND && PURGED_PATTERNS.contains(pattern)) {
+            sMaxAge = edge.getListTtl();
+        } else {
+            return CacheControl.noStore().getHeaderValue();
+        }
+        return CacheControl.maxAge(Duration.ZERO)
+            .cachePublic()
+            .sMaxAge(sMaxAge)
+            .staleWhileRevalidate(edge.getStaleWhileRevalidate())
+            .getHeaderValue();
+    }
+}
@@ -0,0 +1,62 @@
+package de.tzr.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache (JCache on Caffeine) for the reference data: categories,
+ * authors and tags share a region with their translation entities and {@code translations}
+ * maps. All are {@code READ_WRITE}, so the writes in CategoryService, AuthorService, TagService
+ * and AutoTranslationService update or evict their entries when they commit. A translation
+ * saved on its own, without its owner's map, evicts that cached map too
+ * ({@code auto_evict_collection_cache}). The cached slug lookups and the category list are
+ * invalidated by Hibernate whenever one of their tables is written.
+ * <p>
+ * Every region is created here; Hibernate fails on any other ({@code missing_cache_strategy}).
+ * Sizes: {@code cache.reference-data.*}; statistics under {@code /api/admin/caches}.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final List<String> ENTITY_REGIONS = List.of("categories", "authors", "tags");
+
+    /** One manager per application context, so test contexts never share entries. */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(CacheProperties properties) {
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("tzr-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        CacheProperties.ReferenceData sizes = properties.getReferenceData();
+        for (String region : ENTITY_REGIONS) {
+            manager.createCache(region, configuration(OptionalLong.of(sizes.getMaxEntries())));
+        }
+        manager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            configuration(OptionalLong.of(sizes.getMaxQueries())));
+        // must never lose an entry while a cached query result still depends on it
+        manager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration(OptionalLong.empty()));
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(OptionalLong maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
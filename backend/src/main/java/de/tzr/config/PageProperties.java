@@ -0,0 +1,18 @@
+package de.tzr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "pages")
+public class PageProperties {
+
+    /**
+     * Landing-page parts running at once across all requests. Every part holds a pooled
+     * connection while it runs, so keep this below spring.datasource.hikari.maximum-pool-size
+     * (10 by default) to leave connections for the rest of the API.
+     */
+    private int maxConcurrentParts = 6;
+}
@@ -0,0 +1,148 @@
+package de.tzr.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final response bytes of hot public GETs, per URL, {@code Accept} and validator: the JSON (or
+ * Smile, CBOR) as written, plus a gzip variant compressed once when stored. A hit is copied straight to the servlet output
+ * stream with no mapping or compression work. The validator (content revision or article
+ * version) is part of the key, so a change never serves old bytes and needs no invalidation;
+ * superseded entries age out. Bounded by total bytes.
+ * <p>
+ * Misses are marked by {@link ConditionalRequestInterceptor} and captured after the controller
+ * by {@link ResponseBytesFilter}.
+ */
+@Component
+public class ResponseBytesCache {
+
+    static final String KEY_ATTRIBUTE = ResponseBytesCache.class.getName() + ".key";
+
+    /**
+     * Public GETs never kept here: search records analytics per request, and search, suggest
+     * and batch URLs are mostly one-offs that would only push the hot pages out.
+     */
+    static final Set<String> UNCACHED_PATTERNS = Set.of(
+        "/api/public/articles/search", "/api/public/articles/suggest", "/api/public/articles/batch");
+
+    /** Bodies smaller than this are stored without a gzip variant, as nginx would not compress them either. */
+    private static final int MIN_COMPRESS_LENGTH = 256;
+
+    /** The raw {@code Accept} header stands in for the format content negotiation will pick. */
+    record Key(String url, String accept, String etag) {}
+
+    private record Entry(String contentType, byte[] identity, byte[] gzip) {
+        int weight() {
+            return identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    private final Cache<Key, Entry> cache;
+
+    public ResponseBytesCache(CacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getResponses().getMaxBytes())
+            .weigher((Key key, Entry entry) -> entry.weight())
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .recordStats()
+            .build();
+    }
+
+    static Key key(HttpServletRequest request, String etag) {
+        String query = request.getQueryString();
+        return new Key(query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query,
+            request.getHeader(HttpHeaders.ACCEPT), etag);
+    }
+
+    /** Writes the cached response if there is one; the caller has already set the validators and Vary. */
+    boolean serve(Key key, HttpServletRequest request, HttpServletResponse response, String cacheControl) throws IOException {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) return false;
+        boolean gzip = entry.gzip() != null && acceptsGzip(request);
+        byte[] body = gzip ? entry.gzip() : entry.identity();
+        // past the capturing wrapper, which would only copy the bytes once more
+        HttpServletResponse target = response instanceof ContentCachingResponseWrapper wrapper
+            ? (HttpServletResponse) wrapper.getResponse() : response;
+        target.setContentType(entry.contentType());
+        target.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (gzip) target.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        target.setContentLength(body.length);
+        target.getOutputStream().write(body);
+        target.flushBuffer();
+        return true;
+    }
+
+    void store(Key key, String contentType, byte[] body) {
+        cache.put(key, new Entry(contentType, body, body.length < MIN_COMPRESS_LENGTH ? null : gzip(body)));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Whether {@code Accept-Encoding} admits gzip: a {@code gzip} or {@code x-gzip} entry with a
+     * non-zero q-value, or failing that a {@code *} entry with one.
+     */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String accepted = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (accepted == null) return false;
+        Double gzip = null;
+        Double any = null;
+        for (String entry : accepted.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? q : Math.max(gzip, q);
+            } else if (coding.equals("*")) {
+                any = q;
+            }
+        }
+        if (gzip != null) return gzip > 0;
+        return any != null && any > 0;
+    }
+
+    /** The q parameter of one {@code Accept-Encoding} entry; 1 when absent, 0 when malformed. */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
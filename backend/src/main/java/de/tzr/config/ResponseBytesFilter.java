@@ -0,0 +1,58 @@
+package de.tzr.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Captures the body of public GETs that {@link ConditionalRequestInterceptor} marked as a
+ * {@link ResponseBytesCache} miss and stores it once the response is complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBytesFilter extends OncePerRequestFilter {
+
+    private final ResponseBytesCache responseBytesCache;
+
+    private static final List<PathPattern> UNCACHED = ResponseBytesCache.UNCACHED_PATTERNS.stream()
+        .map(PathPatternParser.defaultInstance::parse)
+        .toList();
+
+    /** Runs before handler mapping, so the uncached patterns are matched against the path here. */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) return true;
+        String uri = request.getRequestURI();
+        if (!uri.startsWith("/api/public/") || uri.startsWith("/api/public/newsletter/")) return true;
+        PathContainer path = PathContainer.parsePath(uri);
+        return UNCACHED.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            ResponseBytesCache.Key key = (ResponseBytesCache.Key) request.getAttribute(ResponseBytesCache.KEY_ATTRIBUTE);
+            if (key != null && wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null
+                    && wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null) {
+                responseBytesCache.store(key, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package de.tzr.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    /**
+     * lucene: embedded on-disk index (default). postgres: tsvector/GIN full-text search (prod profile).
+     * fuzzy: typo-tolerant in-memory trigram index over titles, excerpts and tag names.
+     * jpql: the original LIKE scan, kept as a fallback.
+     */
+    private String mode = "lucene";
+
+    private Lucene lucene = new Lucene();
+    private Cache cache = new Cache();
+    private Analytics analytics = new Analytics();
+
+    @Data
+    public static class Lucene {
+        private String indexDir = "data/search-index";
+        private boolean rebuildOnStartup = false;
+    }
+
+    @Data
+    public static class Cache {
+        private int maxEntries = 2000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Analytics {
+        /** Distinct queries counted individually; further queries only count towards the totals. */
+        private int maxTrackedQueries = 10_000;
+    }
+}
@@ -0,0 +1,44 @@
+package de.tzr.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sends the shared-cache policy of {@link ConditionalRequestInterceptor} with public responses
+ * written by a controller or an exception handler, once their status is known, so the proxy
+ * never keeps an error for the lifetime of the page.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SharedCacheControlAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ConditionalRequestInterceptor conditionalRequestInterceptor;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletRequest.getServletRequest().getAttribute(ConditionalRequestInterceptor.PATTERN_ATTRIBUTE) instanceof String pattern) {
+            HttpServletResponse target = servletResponse.getServletResponse();
+            target.setHeader(HttpHeaders.CACHE_CONTROL, conditionalRequestInterceptor.cacheControl(pattern, target.getStatus()));
+        }
+        return body;
+    }
+}
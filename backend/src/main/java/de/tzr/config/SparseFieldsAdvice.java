@@ -0,0 +1,47 @@
+package de.tzr.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import de.tzr.controller.PublicArticleController;
+import de.tzr.dto.ArticleFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes only the properties named in {@code ?fields=} of the article DTOs in a public article
+ * response. Applies only to handlers that declare a {@code fields} parameter: they have already
+ * validated the names and narrowed the loading. Elsewhere the parameter is ignored.
+ */
+@RestControllerAdvice(assignableTypes = PublicArticleController.class)
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.getMethod() != null
+            && Arrays.stream(returnType.getMethod().getParameters()).anyMatch(p -> p.getName().equals("fields"));
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue body, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) return;
+        String fields = servletRequest.getServletRequest().getParameter("fields");
+        if (fields == null || fields.isBlank()) return;
+
+        Set<String> names = new HashSet<>(Arrays.asList(fields.split("\\s*,\\s*")));
+        names.add("id");
+        body.setFilters(new SimpleFilterProvider()
+            .addFilter(ArticleFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+    }
+}
@@ -0,0 +1,85 @@
+package de.tzr.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes an array element by element as a source produces them, so an unbounded list response
+ * never exists as a whole in memory. The source runs on the request thread, inside whatever
+ * transaction it opens itself. The array is JSON, Smile or CBOR as negotiated from
+ * {@code Accept}, with the mappers the regular message converters use.
+ */
+@Component
+public class StreamingArrayWriter {
+
+    /** In order of preference when the request accepts several equally. */
+    private final List<AbstractJackson2HttpMessageConverter> converters;
+
+    public StreamingArrayWriter(MappingJackson2HttpMessageConverter json, MappingJackson2SmileHttpMessageConverter smile,
+                           MappingJackson2CborHttpMessageConverter cbor) {
+        this.converters = List.of(json, smile, cbor);
+    }
+
+    public <T> void write(HttpServletRequest request, HttpServletResponse response, Consumer<Consumer<T>> source) throws IOException {
+        AbstractJackson2HttpMessageConverter converter = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.setContentType(converter.getSupportedMediaTypes().get(0).toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        write(converter.getObjectMapper(), response.getOutputStream(), source);
+    }
+
+    public <T> void write(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        write(converters.get(0).getObjectMapper(), out, source);
+    }
+
+    private <T> void write(ObjectMapper objectMapper, OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            source.accept(element -> {
+                try {
+                    generator.writeObject(element);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    /** Falls back to JSON for a missing, malformed or unsupported {@code Accept}. */
+    private AbstractJackson2HttpMessageConverter negotiate(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return converters.get(0);
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        // stable, so specificity still orders types of equal quality
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) continue;
+            for (AbstractJackson2HttpMessageConverter converter : converters) {
+                if (converter.getSupportedMediaTypes().stream().anyMatch(type::isCompatibleWith)) return converter;
+            }
+        }
+        return converters.get(0);
+    }
+}
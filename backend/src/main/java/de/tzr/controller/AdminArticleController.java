@@ -1,7 +1,10 @@
 package de.tzr.controller;
 
+import de.tzr.config.StreamingArrayWriter;
 import de.tzr.dto.*;
 import de.tzr.service.ArticleService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -11,12 +14,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/api/admin/articles")
 @RequiredArgsConstructor
 public class AdminArticleController {
 
     private final ArticleService articleService;
+    private final StreamingArrayWriter streamingArrayWriter;
 
     @GetMapping
     public PageResponse<ArticleListDTO> getAll(
@@ -34,6 +40,13 @@ public class AdminArticleController {
         return articleService.getAllAdmin(pageable);
     }
 
+    /** Every article (of {@code status}, if given), newest first, streamed instead of paged. */
+    @GetMapping(params = "stream=true")
+    public void streamAll(@RequestParam(required = false) String status,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamingArrayWriter.<ArticleListDTO>write(request, response, sink -> articleService.forEachAdmin(status, sink));
+    }
+
     @GetMapping("/{id}")
     public ArticleDTO getById(@PathVariable Long id) {
         return articleService.getByIdAdmin(id);
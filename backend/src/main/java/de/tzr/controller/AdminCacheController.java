@@ -0,0 +1,23 @@
+package de.tzr.controller;
+
+import de.tzr.dto.CacheStatsDTO;
+import de.tzr.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping
+    public List<CacheStatsDTO> getAll() {
+        return cacheStatsService.getAll();
+    }
+}
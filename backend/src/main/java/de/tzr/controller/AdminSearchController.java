@@ -0,0 +1,22 @@
+package de.tzr.controller;
+
+import de.tzr.dto.SearchAnalyticsDTO;
+import de.tzr.service.ArticleSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/search")
+@RequiredArgsConstructor
+public class AdminSearchController {
+
+    private final ArticleSearchService articleSearchService;
+
+    @GetMapping("/analytics")
+    public SearchAnalyticsDTO getAnalytics(@RequestParam(defaultValue = "20") int limit) {
+        return articleSearchService.getAnalytics(Math.min(limit, 100));
+    }
+}
@@ -1,14 +1,17 @@
 package de.tzr.controller;
 
+import de.tzr.config.StreamingArrayWriter;
 import de.tzr.dto.TagDTO;
 import de.tzr.dto.TagMergeRequest;
 import de.tzr.service.TagService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -17,10 +20,12 @@ import java.util.Map;
 public class AdminTagController {
 
     private final TagService tagService;
+    private final StreamingArrayWriter streamingArrayWriter;
 
+    /** Streamed: written tag by tag as they are read. */
     @GetMapping
-    public List<TagDTO> getAll() {
-        return tagService.getAll();
+    public void getAll(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        streamingArrayWriter.write(request, response, tagService::forEachTag);
     }
 
     @PostMapping
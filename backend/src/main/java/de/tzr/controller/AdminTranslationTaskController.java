@@ -1,11 +1,14 @@
 package de.tzr.controller;
 
+import de.tzr.config.StreamingArrayWriter;
 import de.tzr.dto.TranslationTaskDTO;
 import de.tzr.service.TranslationTaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -14,13 +17,17 @@ import java.util.Map;
 public class AdminTranslationTaskController {
 
     private final TranslationTaskService translationTaskService;
+    private final StreamingArrayWriter streamingArrayWriter;
 
+    /** Streamed: written task by task as they are read; {@code status=PENDING} returns the pending ones only. */
     @GetMapping
-    public List<TranslationTaskDTO> getAll(@RequestParam(required = false) String status) {
+    public void getAll(@RequestParam(required = false) String status,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
         if ("PENDING".equalsIgnoreCase(status)) {
-            return translationTaskService.getPendingTasks();
+            streamingArrayWriter.write(request, response, sink -> translationTaskService.getPendingTasks().forEach(sink));
+            return;
         }
-        return translationTaskService.getAllTasks();
+        streamingArrayWriter.write(request, response, translationTaskService::forEachTask);
     }
 
     @GetMapping("/stats")
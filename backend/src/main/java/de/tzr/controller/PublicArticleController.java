@@ -1,10 +1,19 @@
 package de.tzr.controller;
 
 import de.tzr.config.LanguageResolver;
+import de.tzr.dto.ArticleCursor;
 import de.tzr.dto.ArticleDTO;
+import de.tzr.dto.ArticleFields;
 import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.ArticleTranslationDTO;
+import de.tzr.dto.CursorPageResponse;
+import de.tzr.dto.NormalizedPageResponse;
 import de.tzr.dto.PageResponse;
-import de.tzr.model.Language;
+import de.tzr.dto.SliceResponse;
+import de.tzr.dto.SuggestionDTO;
+import de.tzr.search.SuggestionService;
+import de.tzr.service.ArticleListFilter;
+import de.tzr.service.ArticleSearchService;
 import de.tzr.service.ArticleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -12,16 +21,70 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/public/articles")
 @RequiredArgsConstructor
 public class PublicArticleController {
 
+    private static final int MAX_BATCH = 50;
+
     private final ArticleService articleService;
+    private final ArticleSearchService articleSearchService;
+    private final SuggestionService suggestionService;
     private final LanguageResolver languageResolver;
 
+    /**
+     * {@code fields} selects the properties to load and write, e.g.
+     * {@code fields=slug,title,cardEmoji,publishedDate}; {@code id} is always included.
+     */
     @GetMapping
     public PageResponse<ArticleListDTO> getAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean academic,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "publishedDate,desc") String sort) {
+
+        Pageable pageable = createPageable(page, Math.min(size, 50), sort);
+        return articleService.getPage(new ArticleListFilter(category, author, tag, academic, type),
+            ArticleFields.parse(fields, ArticleFields.LIST_PROPERTIES), languageResolver.resolve(lang), pageable);
+    }
+
+    /**
+     * Count-free variant of {@link #getAll}: reports {@code hasNext} instead of totals.
+     */
+    @GetMapping(params = {"slice=true", "!after"})
+    public SliceResponse<ArticleListDTO> getAllSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean academic,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "publishedDate,desc") String sort) {
+
+        Pageable pageable = createPageable(page, Math.min(size, 50), sort);
+        return articleService.getSlice(new ArticleListFilter(category, author, tag, academic, type),
+            ArticleFields.parse(fields, ArticleFields.LIST_PROPERTIES), languageResolver.resolve(lang), pageable);
+    }
+
+    /**
+     * Normalized variant of {@link #getAll}: items reference their category, author and tags
+     * by id, and each of those appears once in the top-level dictionaries. Takes no
+     * {@code fields}; items always carry every reference property.
+     */
+    @GetMapping(params = {"normalized=true", "!after", "!slice"})
+    public NormalizedPageResponse getAllNormalized(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String category,
@@ -33,24 +96,66 @@ public class PublicArticleController {
             @RequestParam(defaultValue = "publishedDate,desc") String sort) {
 
         Pageable pageable = createPageable(page, Math.min(size, 50), sort);
-        Language language = languageResolver.resolve(lang);
-
-        if (category != null) return articleService.getByCategory(category, language, pageable);
-        if (author != null) return articleService.getByAuthor(author, language, pageable);
-        if (tag != null) return articleService.getByTag(tag, language, pageable);
-        if (academic != null && academic) return articleService.getAcademic(language, pageable);
-        if (type != null) return articleService.getByCategoryType(type, language, pageable);
-        return articleService.getAllPublished(language, pageable);
+        return articleService.getNormalized(new ArticleListFilter(category, author, tag, academic, type),
+            languageResolver.resolve(lang), pageable);
     }
 
+    /**
+     * Keyset-paginated variant of {@link #getAll}, newest first: pass an empty {@code after}
+     * for the first page, then the returned {@code nextCursor}.
+     */
+    @GetMapping(params = "after")
+    public CursorPageResponse<ArticleListDTO> getAllAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "12") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean academic,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) String fields) {
+
+        ArticleCursor cursor = ArticleCursor.decode(after);
+        int limit = Math.max(1, Math.min(size, 50));
+        return articleService.getAfter(new ArticleListFilter(category, author, tag, academic, type),
+            ArticleFields.parse(fields, ArticleFields.LIST_PROPERTIES), cursor, languageResolver.resolve(lang), limit);
+    }
+
+    /**
+     * Up to {@value #MAX_BATCH} articles by slug, in the order given; unknown slugs are left out.
+     * {@code fields} only narrows what is written; the articles are built whole, from the DTO
+     * cache where possible.
+     */
+    @GetMapping("/batch")
+    public List<ArticleDTO> getBatch(@RequestParam List<String> slugs,
+                                     @RequestParam(required = false) String lang,
+                                     @RequestParam(required = false) String fields) {
+        ArticleFields.parse(fields, ArticleFields.ARTICLE_PROPERTIES);
+        List<String> requested = slugs.stream().map(String::trim).filter(s -> !s.isEmpty()).limit(MAX_BATCH).toList();
+        return articleService.getBySlugs(requested, languageResolver.resolve(lang));
+    }
+
+    /** {@code fields} only narrows what is written; the article is built whole, from the DTO cache. */
     @GetMapping("/{slug}")
     public ArticleDTO getBySlug(@PathVariable String slug,
-                                @RequestParam(required = false) String lang) {
+                                @RequestParam(required = false) String lang,
+                                @RequestParam(required = false) String fields) {
+        ArticleFields.parse(fields, ArticleFields.ARTICLE_PROPERTIES);
         return articleService.getBySlug(slug, languageResolver.resolve(lang));
     }
 
+    /** Every language of the article; the article itself only carries the requested one. */
+    @GetMapping("/{slug}/translations")
+    public List<ArticleTranslationDTO> getTranslations(@PathVariable String slug) {
+        return articleService.getTranslations(slug);
+    }
+
+    /** {@code fields} only narrows what is written; the article is built whole, from the DTO cache. */
     @GetMapping("/featured")
-    public ArticleDTO getFeatured(@RequestParam(required = false) String lang) {
+    public ArticleDTO getFeatured(@RequestParam(required = false) String lang,
+                                  @RequestParam(required = false) String fields) {
+        ArticleFields.parse(fields, ArticleFields.ARTICLE_PROPERTIES);
         return articleService.getFeatured(languageResolver.resolve(lang));
     }
 
@@ -60,7 +165,15 @@ public class PublicArticleController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String lang) {
-        return articleService.search(q, languageResolver.resolve(lang), PageRequest.of(page, Math.min(size, 50)));
+        return articleSearchService.search(q, languageResolver.resolve(lang), page, Math.min(size, 50));
+    }
+
+    @GetMapping("/suggest")
+    public List<SuggestionDTO> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit,
+            @RequestParam(required = false) String lang) {
+        return suggestionService.suggest(q, languageResolver.resolve(lang), Math.min(limit, SuggestionService.MAX_LIMIT));
     }
 
     @GetMapping("/{slug}/related")
@@ -77,6 +190,7 @@ public class PublicArticleController {
         String field = parts[0];
         Sort.Direction direction = parts.length > 1 && parts[1].equalsIgnoreCase("asc")
             ? Sort.Direction.ASC : Sort.Direction.DESC;
-        return PageRequest.of(page, size, Sort.by(direction, field));
+        // undated articles last, as in the keyset feed
+        return PageRequest.of(page, size, Sort.by(new Sort.Order(direction, field).nullsLast()));
     }
 }
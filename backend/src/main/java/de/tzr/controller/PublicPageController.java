@@ -0,0 +1,56 @@
+package de.tzr.controller;
+
+import de.tzr.config.LanguageResolver;
+import de.tzr.dto.AuthorLandingDTO;
+import de.tzr.dto.CategoryLandingDTO;
+import de.tzr.dto.HomePageDTO;
+import de.tzr.service.LandingPageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * One request per landing page instead of one per widget. Responses carry a single ETag for
+ * the whole page, the global content revision (see {@link de.tzr.config.ConditionalRequestInterceptor}).
+ */
+@RestController
+@RequestMapping("/api/public/pages")
+@RequiredArgsConstructor
+public class PublicPageController {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("publishedDate").nullsLast());
+
+    private final LandingPageService landingPageService;
+    private final LanguageResolver languageResolver;
+
+    @GetMapping("/home")
+    public HomePageDTO getHome(@RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "9") int size,
+                               @RequestParam(defaultValue = "3") int academicSize,
+                               @RequestParam(required = false) String lang) {
+        return landingPageService.getHome(languageResolver.resolve(lang),
+            pageable(page, size), pageable(0, academicSize));
+    }
+
+    @GetMapping("/categories/{slug}")
+    public CategoryLandingDTO getCategory(@PathVariable String slug,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "12") int size,
+                                          @RequestParam(required = false) String lang) {
+        return landingPageService.getCategory(slug, languageResolver.resolve(lang), pageable(page, size));
+    }
+
+    @GetMapping("/authors/{slug}")
+    public AuthorLandingDTO getAuthor(@PathVariable String slug,
+                                      @RequestParam(defaultValue = "0") int page,
+                                      @RequestParam(defaultValue = "12") int size,
+                                      @RequestParam(required = false) String lang) {
+        return landingPageService.getAuthor(slug, languageResolver.resolve(lang), pageable(page, size));
+    }
+
+    private static Pageable pageable(int page, int size) {
+        return PageRequest.of(page, Math.max(1, Math.min(size, 50)), NEWEST_FIRST);
+    }
+}
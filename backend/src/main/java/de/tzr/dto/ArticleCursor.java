@@ -0,0 +1,38 @@
+package de.tzr.dto;
+
+import de.tzr.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a feed ordered by publishedDate descending with undated articles last, then id
+ * descending. A null {@code publishedDate} is a position among the undated articles. Clients
+ * only see it as an opaque token.
+ */
+public record ArticleCursor(LocalDate publishedDate, Long id) {
+
+    /** Sorts before every real article, so a feed can start without a cursor. */
+    public static final ArticleCursor FIRST = new ArticleCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    private static final String UNDATED = "undated";
+
+    public String encode() {
+        String raw = (publishedDate != null ? publishedDate.toString() : UNDATED) + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String token) {
+        if (token == null || token.isBlank()) return FIRST;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(",", 2);
+            LocalDate publishedDate = UNDATED.equals(parts[0]) ? null : LocalDate.parse(parts[0]);
+            return new ArticleCursor(publishedDate, Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package de.tzr.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@JsonFilter(ArticleFields.FILTER_ID)
 public record ArticleDTO(
     Long id, String title, String slug, String excerpt, String body,
     CategoryDTO category, AuthorDTO author, List<TagDTO> tags,
@@ -12,5 +16,5 @@ public record ArticleDTO(
     LocalDate publishedDate, Integer readingTimeMinutes,
     String metaTitle, String metaDescription,
     LocalDateTime createdAt, LocalDateTime updatedAt,
-    List<ArticleTranslationDTO> translations
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<ArticleTranslationDTO> translations
 ) {}
@@ -0,0 +1,50 @@
+package de.tzr.dto;
+
+import de.tzr.exception.InvalidFieldsException;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset from {@code ?fields=a,b,c}: the DTO properties a client wants. {@code id} is
+ * always included. {@link #ALL} (no or blank parameter) selects every property.
+ */
+public record ArticleFields(Set<String> names) {
+
+    public static final String FILTER_ID = "fields";
+
+    public static final ArticleFields ALL = new ArticleFields(null);
+
+    public static final Set<String> LIST_PROPERTIES = propertiesOf(ArticleListDTO.class);
+    public static final Set<String> ARTICLE_PROPERTIES = propertiesOf(ArticleDTO.class);
+
+    public static ArticleFields parse(String fields, Set<String> known) {
+        if (fields == null || fields.isBlank()) return ALL;
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) continue;
+            if (!known.contains(trimmed)) throw new InvalidFieldsException("Unknown field: " + trimmed);
+            names.add(trimmed);
+        }
+        return new ArticleFields(Set.copyOf(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    private static Set<String> propertiesOf(Class<? extends Record> type) {
+        return Arrays.stream(type.getRecordComponents())
+            .map(RecordComponent::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -1,12 +1,23 @@
 package de.tzr.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
 import java.time.LocalDate;
 import java.util.List;
 
+@JsonFilter(ArticleFields.FILTER_ID)
 public record ArticleListDTO(
     Long id, String title, String slug, String excerpt,
     CategoryDTO category, AuthorDTO author, List<TagDTO> tags,
     String cardEmoji, String coverImageUrl,
     String status, Boolean academic, Boolean featured,
-    LocalDate publishedDate, Integer readingTimeMinutes
-) {}
+    LocalDate publishedDate, Integer readingTimeMinutes,
+    String highlight
+) {
+
+    public ArticleListDTO withHighlight(String highlight) {
+        return new ArticleListDTO(id, title, slug, excerpt, category, author, tags,
+            cardEmoji, coverImageUrl, status, academic, featured,
+            publishedDate, readingTimeMinutes, highlight);
+    }
+}
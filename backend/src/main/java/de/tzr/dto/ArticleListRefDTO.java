@@ -0,0 +1,13 @@
+package de.tzr.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** {@link ArticleListDTO} with category, author and tags by id; see {@link NormalizedPageResponse}. */
+public record ArticleListRefDTO(
+    Long id, String title, String slug, String excerpt,
+    Long categoryId, Long authorId, List<Long> tagIds,
+    String cardEmoji, String coverImageUrl,
+    String status, Boolean academic, Boolean featured,
+    LocalDate publishedDate, Integer readingTimeMinutes
+) {}
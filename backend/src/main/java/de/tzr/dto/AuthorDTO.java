@@ -1,9 +1,11 @@
 package de.tzr.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record AuthorDTO(
     Long id, String name, String slug, String bio,
     String email, String avatarUrl, Integer articleCount,
-    List<AuthorTranslationDTO> translations
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<AuthorTranslationDTO> translations
 ) {}
@@ -0,0 +1,6 @@
+package de.tzr.dto;
+
+public record AuthorLandingDTO(
+    AuthorDTO author,
+    PageResponse<ArticleListDTO> articles
+) {}
@@ -0,0 +1,5 @@
+package de.tzr.dto;
+
+public record CacheStatsDTO(
+    String name, long size, long hits, long misses, double hitRate, long evictions
+) {}
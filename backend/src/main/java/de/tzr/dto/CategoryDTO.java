@@ -1,10 +1,12 @@
 package de.tzr.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 public record CategoryDTO(
     Long id, String name, String slug, String displayName,
     String description, String emoji, String color, String bgColor,
     String type, Integer sortOrder, Integer articleCount,
-    List<CategoryTranslationDTO> translations
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<CategoryTranslationDTO> translations
 ) {}
@@ -0,0 +1,6 @@
+package de.tzr.dto;
+
+public record CategoryLandingDTO(
+    CategoryDTO category,
+    PageResponse<ArticleListDTO> articles
+) {}
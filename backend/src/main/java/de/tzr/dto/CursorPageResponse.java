@@ -0,0 +1,9 @@
+package de.tzr.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated feed. {@code nextCursor} is passed back as {@code after} to
+ * get the following page and is null on the last page.
+ */
+public record CursorPageResponse<T>(List<T> content, int size, String nextCursor) {}
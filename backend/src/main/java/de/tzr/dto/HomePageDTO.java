@@ -0,0 +1,11 @@
+package de.tzr.dto;
+
+import java.util.List;
+
+/** Everything the homepage renders; {@code featured} is null while no article is featured. */
+public record HomePageDTO(
+    ArticleDTO featured,
+    PageResponse<ArticleListDTO> latest,
+    List<CategoryDTO> categories,
+    PageResponse<ArticleListDTO> academic
+) {}
@@ -0,0 +1,16 @@
+package de.tzr.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list page whose items reference categories, authors and tags by id; each referenced one
+ * appears once in the dictionaries, resolved to the requested language.
+ */
+public record NormalizedPageResponse(
+    List<ArticleListRefDTO> content,
+    Map<Long, CategoryDTO> categories, Map<Long, AuthorDTO> authors, Map<Long, TagDTO> tags,
+    int page, int size,
+    long totalElements, int totalPages,
+    boolean first, boolean last
+) {}
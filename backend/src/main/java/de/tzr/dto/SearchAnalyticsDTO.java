@@ -0,0 +1,11 @@
+package de.tzr.dto;
+
+import java.util.List;
+
+public record SearchAnalyticsDTO(
+    long totalQueries, long zeroResultQueries, long untrackedQueries,
+    long cacheHits, long cacheMisses, long cacheEvictions, long cacheSize,
+    List<QueryStat> topQueries, List<QueryStat> topZeroResultQueries
+) {
+    public record QueryStat(String query, long count, long zeroResults) {}
+}
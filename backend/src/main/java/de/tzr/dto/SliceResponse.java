@@ -0,0 +1,11 @@
+package de.tzr.dto;
+
+import java.util.List;
+
+/**
+ * A page without totals: only whether another page follows.
+ */
+public record SliceResponse<T>(
+    List<T> content, int page, int size,
+    boolean first, boolean hasNext
+) {}
@@ -0,0 +1,3 @@
+package de.tzr.dto;
+
+public record SuggestionDTO(String type, String text, String slug) {}
@@ -0,0 +1,7 @@
+package de.tzr.event;
+
+/**
+ * Published by ArticleService after an article was created, updated, re-statused or deleted.
+ * Listeners run after the surrounding transaction commits.
+ */
+public record ArticleChangedEvent(Long articleId) {}
@@ -0,0 +1,17 @@
+package de.tzr.event;
+
+import de.tzr.model.TranslationTaskEntityType;
+
+import java.util.List;
+
+/**
+ * Published after a category, author or tag (or one of its translations) was written or deleted;
+ * a write that touches several entities of one type, such as a reorder, publishes one event for
+ * all of them. Listeners run after the surrounding transaction commits.
+ */
+public record ReferenceDataChangedEvent(TranslationTaskEntityType entityType, List<Long> entityIds) {
+
+    public ReferenceDataChangedEvent(TranslationTaskEntityType entityType, Long entityId) {
+        this(entityType, List.of(entityId));
+    }
+}
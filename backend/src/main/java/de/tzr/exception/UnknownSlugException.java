@@ -0,0 +1,11 @@
+package de.tzr.exception;
+
+/**
+ * Not-found for a slug that the slug registry does not know. Requests for random slugs are
+ * common (scanners), so this one skips filling in the stack trace.
+ */
+public class UnknownSlugException extends ResourceNotFoundException {
+    public UnknownSlugException(String message) {
+        super(message, false);
+    }
+}
@@ -4,19 +4,24 @@ import static de.tzr.mapper.TranslationResolver.resolve;
 
 import de.tzr.dto.*;
 import de.tzr.model.*;
+import de.tzr.repository.ArticleListRow;
+import de.tzr.service.ReferenceDataRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 
+/**
+ * Category, author and tags come from the {@link ReferenceDataRegistry} by id; their entities
+ * and translation maps are never read here.
+ */
 @Component
 public class ArticleMapper {
 
-    private final CategoryMapper categoryMapper;
-    private final AuthorMapper authorMapper;
+    private final ReferenceDataRegistry referenceData;
 
-    public ArticleMapper(CategoryMapper categoryMapper, AuthorMapper authorMapper) {
-        this.categoryMapper = categoryMapper;
-        this.authorMapper = authorMapper;
+    public ArticleMapper(ReferenceDataRegistry referenceData) {
+        this.referenceData = referenceData;
     }
 
     public ArticleDTO toDTO(Article a) {
@@ -24,6 +29,30 @@ public class ArticleMapper {
     }
 
     public ArticleDTO toDTO(Article a, Language lang) {
+        List<ArticleTranslationDTO> translations = a.getTranslations().values().stream()
+            .map(this::toTranslationDTO)
+            .toList();
+        return toDTO(a, lang, referenceData.categoryWithTranslations(a.getCategory().getId(), lang),
+            referenceData.authorWithTranslations(a.getAuthor().getId(), lang), translations);
+    }
+
+    /**
+     * Public shape: only the resolved language. The other languages are served separately
+     * ({@link #toTranslationDTO}), and the category and author carry no translations either.
+     */
+    public ArticleDTO toPublicDTO(Article a, Language lang) {
+        return toDTO(a, lang, referenceData.category(a.getCategory().getId(), lang),
+            referenceData.author(a.getAuthor().getId(), lang), null);
+    }
+
+    public ArticleTranslationDTO toTranslationDTO(ArticleTranslation tr) {
+        return new ArticleTranslationDTO(
+            tr.getLanguage().name(), tr.getTitle(), tr.getExcerpt(), tr.getBody(),
+            tr.getMetaTitle(), tr.getMetaDescription(), tr.getReadingTimeMinutes());
+    }
+
+    private ArticleDTO toDTO(Article a, Language lang, CategoryDTO category, AuthorDTO author,
+                             List<ArticleTranslationDTO> translations) {
         ArticleTranslation t = a.getTranslations().get(lang);
         ArticleTranslation fallback = (t == null && lang != Language.DE) ? a.getTranslations().get(Language.DE) : null;
 
@@ -35,17 +64,10 @@ public class ArticleMapper {
         Integer readTime = t != null && t.getReadingTimeMinutes() != null ? t.getReadingTimeMinutes() :
             (fallback != null && fallback.getReadingTimeMinutes() != null ? fallback.getReadingTimeMinutes() : a.getReadingTimeMinutes());
 
-        List<ArticleTranslationDTO> translations = a.getTranslations().values().stream()
-            .map(tr -> new ArticleTranslationDTO(
-                tr.getLanguage().name(), tr.getTitle(), tr.getExcerpt(), tr.getBody(),
-                tr.getMetaTitle(), tr.getMetaDescription(), tr.getReadingTimeMinutes()))
-            .toList();
-
         return new ArticleDTO(
             a.getId(), title, a.getSlug(), excerpt, body,
-            categoryMapper.toDTO(a.getCategory(), 0, lang),
-            authorMapper.toDTO(a.getAuthor(), 0, lang),
-            a.getTags().stream().map(tag -> toTagDTO(tag, lang)).toList(),
+            category, author,
+            tags(a.getTags().stream().map(Tag::getId).toList(), lang),
             a.getCardEmoji(), a.getCoverImageUrl(), a.getCoverImageCredit(),
             a.getStatus().name(), a.getAcademic(), a.getFeatured(),
             a.getPublishedDate(), readTime,
@@ -70,19 +92,60 @@ public class ArticleMapper {
 
         return new ArticleListDTO(
             a.getId(), title, a.getSlug(), excerpt,
-            categoryMapper.toDTO(a.getCategory(), 0, lang),
-            authorMapper.toDTO(a.getAuthor(), 0, lang),
-            a.getTags().stream().map(tag -> toTagDTO(tag, lang)).toList(),
+            referenceData.categoryWithTranslations(a.getCategory().getId(), lang),
+            referenceData.authorWithTranslations(a.getAuthor().getId(), lang),
+            tags(a.getTags().stream().map(Tag::getId).toList(), lang),
             a.getCardEmoji(), a.getCoverImageUrl(),
             a.getStatus().name(), a.getAcademic(), a.getFeatured(),
-            a.getPublishedDate(), readTime
+            a.getPublishedDate(), readTime, null
         );
     }
 
-    private TagDTO toTagDTO(Tag t, Language lang) {
-        TagTranslation tr = t.getTranslations().get(lang);
-        TagTranslation fallback = (tr == null && lang != Language.DE) ? t.getTranslations().get(Language.DE) : null;
-        String name = resolve(tr != null ? tr.getName() : null, fallback != null ? fallback.getName() : null, t.getName());
-        return new TagDTO(t.getId(), name, t.getSlug(), 0, null);
+    /**
+     * Same resolution as {@link #toListDTO(Article, Language)}, from a body-free projection row.
+     * Rows of a sparse fieldset may lack the category, author and status.
+     */
+    public ArticleListDTO toListDTO(ArticleListRow row, Collection<Long> tagIds, Language lang) {
+        ListTexts texts = resolveTexts(row, lang);
+        return new ArticleListDTO(
+            row.id(), texts.title(), row.slug(), texts.excerpt(),
+            referenceData.categoryWithTranslations(row.categoryId(), lang),
+            referenceData.authorWithTranslations(row.authorId(), lang),
+            tags(tagIds, lang),
+            row.cardEmoji(), row.coverImageUrl(),
+            row.status() != null ? row.status().name() : null, row.academic(), row.featured(),
+            row.publishedDate(), texts.readingTimeMinutes(), null
+        );
+    }
+
+    /**
+     * Normalized list item: category, author and tags by id only, for responses that carry
+     * them once in side-loaded dictionaries.
+     */
+    public ArticleListRefDTO toListRefDTO(ArticleListRow row, Collection<Long> tagIds, Language lang) {
+        ListTexts texts = resolveTexts(row, lang);
+        return new ArticleListRefDTO(
+            row.id(), texts.title(), row.slug(), texts.excerpt(),
+            row.categoryId(), row.authorId(), List.copyOf(tagIds),
+            row.cardEmoji(), row.coverImageUrl(),
+            row.status().name(), row.academic(), row.featured(),
+            row.publishedDate(), texts.readingTimeMinutes()
+        );
+    }
+
+    private record ListTexts(String title, String excerpt, Integer readingTimeMinutes) {}
+
+    private static ListTexts resolveTexts(ArticleListRow row, Language lang) {
+        boolean useFallback = row.translationId() == null && lang != Language.DE;
+
+        String title = resolve(row.translationTitle(), useFallback ? row.fallbackTitle() : null, row.title());
+        String excerpt = resolve(row.translationExcerpt(), useFallback ? row.fallbackExcerpt() : null, row.excerpt());
+        Integer readTime = row.translationReadingTimeMinutes() != null ? row.translationReadingTimeMinutes() :
+            (useFallback && row.fallbackReadingTimeMinutes() != null ? row.fallbackReadingTimeMinutes() : row.readingTimeMinutes());
+        return new ListTexts(title, excerpt, readTime);
+    }
+
+    private List<TagDTO> tags(Collection<Long> tagIds, Language lang) {
+        return tagIds.stream().map(id -> referenceData.tag(id, lang)).toList();
     }
 }
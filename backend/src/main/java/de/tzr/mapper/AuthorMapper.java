@@ -22,15 +22,23 @@ public class AuthorMapper {
     }
 
     public AuthorDTO toDTO(Author a, int articleCount, Language lang) {
+        List<AuthorTranslationDTO> translations = a.getTranslations().values().stream()
+            .map(tr -> new AuthorTranslationDTO(tr.getLanguage().name(), tr.getBio()))
+            .toList();
+        return toDTO(a, articleCount, lang, translations);
+    }
+
+    /** Resolved to {@code lang} only, without the translations list. */
+    public AuthorDTO toResolvedDTO(Author a, Language lang) {
+        return toDTO(a, 0, lang, null);
+    }
+
+    private AuthorDTO toDTO(Author a, int articleCount, Language lang, List<AuthorTranslationDTO> translations) {
         AuthorTranslation t = a.getTranslations().get(lang);
         AuthorTranslation fallback = (t == null && lang != Language.DE) ? a.getTranslations().get(Language.DE) : null;
 
         String bio = resolve(t != null ? t.getBio() : null, fallback != null ? fallback.getBio() : null, a.getBio());
 
-        List<AuthorTranslationDTO> translations = a.getTranslations().values().stream()
-            .map(tr -> new AuthorTranslationDTO(tr.getLanguage().name(), tr.getBio()))
-            .toList();
-
         return new AuthorDTO(
             a.getId(), a.getName(), a.getSlug(), bio,
             a.getEmail(), a.getAvatarUrl(), articleCount,
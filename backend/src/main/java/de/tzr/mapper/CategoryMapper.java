@@ -22,6 +22,19 @@ public class CategoryMapper {
     }
 
     public CategoryDTO toDTO(Category c, int articleCount, Language lang) {
+        List<CategoryTranslationDTO> translations = c.getTranslations().values().stream()
+            .map(tr -> new CategoryTranslationDTO(
+                tr.getLanguage().name(), tr.getName(), tr.getDisplayName(), tr.getDescription()))
+            .toList();
+        return toDTO(c, articleCount, lang, translations);
+    }
+
+    /** Resolved to {@code lang} only, without the translations list. */
+    public CategoryDTO toResolvedDTO(Category c, Language lang) {
+        return toDTO(c, 0, lang, null);
+    }
+
+    private CategoryDTO toDTO(Category c, int articleCount, Language lang, List<CategoryTranslationDTO> translations) {
         CategoryTranslation t = c.getTranslations().get(lang);
         CategoryTranslation fallback = (t == null && lang != Language.DE) ? c.getTranslations().get(Language.DE) : null;
 
@@ -29,11 +42,6 @@ public class CategoryMapper {
         String displayName = resolve(t != null ? t.getDisplayName() : null, fallback != null ? fallback.getDisplayName() : null, c.getDisplayName());
         String description = resolve(t != null ? t.getDescription() : null, fallback != null ? fallback.getDescription() : null, c.getDescription());
 
-        List<CategoryTranslationDTO> translations = c.getTranslations().values().stream()
-            .map(tr -> new CategoryTranslationDTO(
-                tr.getLanguage().name(), tr.getName(), tr.getDisplayName(), tr.getDescription()))
-            .toList();
-
         return new CategoryDTO(
             c.getId(), name, c.getSlug(), displayName,
             description, c.getEmoji(), c.getColor(), c.getBgColor(),
@@ -0,0 +1,21 @@
+package de.tzr.mapper;
+
+import static de.tzr.mapper.TranslationResolver.resolve;
+
+import de.tzr.dto.TagDTO;
+import de.tzr.model.Language;
+import de.tzr.model.Tag;
+import de.tzr.model.TagTranslation;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TagMapper {
+
+    /** Name resolved to {@code lang}, without article count or translations. */
+    public TagDTO toResolvedDTO(Tag t, Language lang) {
+        TagTranslation tr = t.getTranslations().get(lang);
+        TagTranslation fallback = (tr == null && lang != Language.DE) ? t.getTranslations().get(Language.DE) : null;
+        String name = resolve(tr != null ? tr.getName() : null, fallback != null ? fallback.getName() : null, t.getName());
+        return new TagDTO(t.getId(), name, t.getSlug(), 0, null);
+    }
+}
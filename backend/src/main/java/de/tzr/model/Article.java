@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "articles")
+@Table(name = "articles", indexes = @Index(name = "idx_articles_status_published_id", columnList = "status, published_date, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -3,6 +3,8 @@ package de.tzr.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,6 +13,8 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
 @Table(name = "authors")
 @Data
 @NoArgsConstructor
@@ -38,6 +42,7 @@ public class Author {
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
     @MapKey(name = "language")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
     @Builder.Default
     private Map<Language, AuthorTranslation> translations = new HashMap<>();
 
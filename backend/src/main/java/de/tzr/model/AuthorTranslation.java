@@ -2,8 +2,12 @@ package de.tzr.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
 @Table(name = "author_translations",
     uniqueConstraints = @UniqueConstraint(columnNames = {"author_id", "language"}))
 @Data
@@ -2,8 +2,12 @@ package de.tzr.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Table(name = "category_translations",
     uniqueConstraints = @UniqueConstraint(columnNames = {"category_id", "language"}))
 @Data
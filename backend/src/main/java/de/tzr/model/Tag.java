@@ -3,6 +3,8 @@ package de.tzr.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,6 +12,8 @@ import java.util.Map;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 @Table(name = "tags")
 @Data
 @NoArgsConstructor
@@ -31,6 +35,7 @@ public class Tag {
 
     @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, orphanRemoval = true)
     @MapKey(name = "language")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
     @Builder.Default
     private Map<Language, TagTranslation> translations = new HashMap<>();
 
@@ -2,8 +2,12 @@ package de.tzr.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 @Table(name = "tag_translations",
     uniqueConstraints = @UniqueConstraint(columnNames = {"tag_id", "language"}))
 @Data
@@ -0,0 +1,19 @@
+package de.tzr.repository;
+
+import de.tzr.model.ArticleStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Body-free projection of an article for list pages: the list columns of the article, its
+ * translation in the requested language (translationId is null when there is none) and its
+ * German translation as the fallback.
+ */
+public record ArticleListRow(
+    Long id, String title, String slug, String excerpt,
+    String cardEmoji, String coverImageUrl, ArticleStatus status,
+    Boolean academic, Boolean featured, LocalDate publishedDate, Integer readingTimeMinutes,
+    Long categoryId, Long authorId,
+    Long translationId, String translationTitle, String translationExcerpt, Integer translationReadingTimeMinutes,
+    String fallbackTitle, String fallbackExcerpt, Integer fallbackReadingTimeMinutes
+) {}
@@ -0,0 +1,18 @@
+package de.tzr.repository;
+
+import de.tzr.model.Language;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface ArticleListRowQueries {
+
+    /**
+     * {@link ArticleRepository#findListRowsByIdIn} narrowed to a sparse fieldset, given as
+     * {@code ArticleListDTO} property names: only the columns behind those properties are
+     * selected (the other row components stay null, except id and publishedDate), and the
+     * translation joins are only made for title, excerpt or readingTimeMinutes.
+     */
+    List<ArticleListRow> findSparseListRowsByIdIn(Collection<Long> ids, Language lang, Set<String> fields);
+}
@@ -0,0 +1,87 @@
+package de.tzr.repository;
+
+import de.tzr.model.ArticleStatus;
+import de.tzr.model.Language;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class ArticleListRowQueriesImpl implements ArticleListRowQueries {
+
+    /** Untranslated list properties and the article column behind each. */
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("slug", "a.slug");
+        COLUMNS.put("cardEmoji", "a.cardEmoji");
+        COLUMNS.put("coverImageUrl", "a.coverImageUrl");
+        COLUMNS.put("status", "a.status");
+        COLUMNS.put("academic", "a.academic");
+        COLUMNS.put("featured", "a.featured");
+        COLUMNS.put("category", "a.category.id");
+        COLUMNS.put("author", "a.author.id");
+    }
+
+    /** Properties resolved from the translation in the requested language, then German. */
+    private static final List<String> TRANSLATED = List.of("title", "excerpt", "readingTimeMinutes");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ArticleListRow> findSparseListRowsByIdIn(Collection<Long> ids, Language lang, Set<String> fields) {
+        List<String> select = new ArrayList<>(List.of("a.id AS f_id", "a.publishedDate AS f_publishedDate"));
+        COLUMNS.forEach((field, column) -> {
+            if (fields.contains(field)) select.add(column + " AS f_" + field);
+        });
+        boolean translated = TRANSLATED.stream().anyMatch(fields::contains);
+        boolean fallback = translated && lang != Language.DE;
+        if (translated) select.add("t.id AS translationId");
+        for (String field : TRANSLATED) {
+            if (!fields.contains(field)) continue;
+            select.add("a." + field + " AS f_" + field);
+            select.add("t." + field + " AS t_" + field);
+            if (fallback) select.add("d." + field + " AS d_" + field);
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT ").append(String.join(", ", select)).append(" FROM Article a");
+        if (translated) jpql.append(" LEFT JOIN a.translations t ON t.language = :lang");
+        if (fallback) jpql.append(" LEFT JOIN a.translations d ON d.language = de.tzr.model.Language.DE");
+        jpql.append(" WHERE a.id IN :ids");
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class).setParameter("ids", ids);
+        if (translated) query.setParameter("lang", lang);
+
+        Set<String> aliases = new HashSet<>();
+        for (String column : select) aliases.add(column.substring(column.lastIndexOf(' ') + 1));
+        return query.getResultList().stream().map(tuple -> toRow(new Columns(tuple, aliases))).toList();
+    }
+
+    private static ArticleListRow toRow(Columns c) {
+        return new ArticleListRow(
+            c.get("f_id", Long.class), c.get("f_title", String.class), c.get("f_slug", String.class),
+            c.get("f_excerpt", String.class), c.get("f_cardEmoji", String.class), c.get("f_coverImageUrl", String.class),
+            c.get("f_status", ArticleStatus.class), c.get("f_academic", Boolean.class), c.get("f_featured", Boolean.class),
+            c.get("f_publishedDate", LocalDate.class), c.get("f_readingTimeMinutes", Integer.class),
+            c.get("f_category", Long.class), c.get("f_author", Long.class),
+            c.get("translationId", Long.class), c.get("t_title", String.class), c.get("t_excerpt", String.class),
+            c.get("t_readingTimeMinutes", Integer.class),
+            c.get("d_title", String.class), c.get("d_excerpt", String.class), c.get("d_readingTimeMinutes", Integer.class));
+    }
+
+    /** A result tuple that answers null for columns that were not selected. */
+    private record Columns(Tuple tuple, Set<String> aliases) {
+        <T> T get(String alias, Class<T> type) {
+            return aliases.contains(alias) ? tuple.get(alias, type) : null;
+        }
+    }
+}
@@ -3,44 +3,171 @@ package de.tzr.repository;
 import de.tzr.model.Article;
 import de.tzr.model.ArticleStatus;
 import de.tzr.model.CategoryType;
+import de.tzr.model.Language;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleListRowQueries {
+
+    String AFTER = " AND a.publishedDate <= :date AND (a.publishedDate < :date OR a.id < :id)";
+    String NEWEST_FIRST = " ORDER BY a.publishedDate DESC NULLS LAST, a.id DESC";
+    String UNDATED_AFTER = " AND a.publishedDate IS NULL AND a.id < :id ORDER BY a.id DESC";
 
-public interface ArticleRepository extends JpaRepository<Article, Long> {
     Optional<Article> findBySlug(String slug);
     boolean existsBySlug(String slug);
 
     Page<Article> findByStatus(ArticleStatus status, Pageable pageable);
 
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.category.slug = :categorySlug")
-    Page<Article> findByStatusAndCategorySlug(@Param("status") ArticleStatus status, @Param("categorySlug") String categorySlug, Pageable pageable);
-
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.author.slug = :authorSlug")
-    Page<Article> findByStatusAndAuthorSlug(@Param("status") ArticleStatus status, @Param("authorSlug") String authorSlug, Pageable pageable);
+    /**
+     * Collections are left to batch fetching; joining them here would multiply the rows. The
+     * category and author are taken from the reference data snapshot by id.
+     */
+    List<Article> findByStatusAndSlugIn(ArticleStatus status, Collection<String> slugs);
 
-    @Query("SELECT a FROM Article a JOIN a.tags t WHERE a.status = :status AND t.slug = :tagSlug")
-    Page<Article> findByStatusAndTagSlug(@Param("status") ArticleStatus status, @Param("tagSlug") String tagSlug, Pageable pageable);
+    /** (id, slug) pairs, for {@code SlugRegistry}. */
+    @Query("SELECT a.id, a.slug FROM Article a WHERE a.status = :status")
+    List<Object[]> findSlugsByStatus(@Param("status") ArticleStatus status);
 
-    Page<Article> findByStatusAndAcademic(ArticleStatus status, Boolean academic, Pageable pageable);
+    /** (id, slug, updatedAt) triples, for {@code ContentRevision}. */
+    @Query("SELECT a.id, a.slug, a.updatedAt FROM Article a WHERE a.status = :status")
+    List<Object[]> findVersionsByStatus(@Param("status") ArticleStatus status);
 
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.category.type = :type")
-    Page<Article> findByStatusAndCategoryType(@Param("status") ArticleStatus status, @Param("type") CategoryType type, Pageable pageable);
-
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND (LOWER(a.title) LIKE LOWER(CONCAT('%',:q,'%')) OR LOWER(a.excerpt) LIKE LOWER(CONCAT('%',:q,'%')) OR LOWER(a.body) LIKE LOWER(CONCAT('%',:q,'%')))")
-    Page<Article> search(@Param("status") ArticleStatus status, @Param("q") String query, Pageable pageable);
+    @Query("SELECT a.slug FROM Article a WHERE a.id = :id AND a.status = :status")
+    Optional<String> findSlugByIdAndStatus(@Param("id") Long id, @Param("status") ArticleStatus status);
+
+    /*
+     * List pages select ids only; the page is then loaded through the body-free projections
+     * below so the number of statements per page does not depend on the page size. The id
+     * queries return slices (size + 1 rows, no COUNT); totals come from the count queries.
+     */
+
+    @Query("SELECT a.id FROM Article a")
+    Slice<Long> findIds(Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status")
+    Slice<Long> findIdsByStatus(@Param("status") ArticleStatus status, Pageable pageable);
+
+    /** Ids newest first through a cursor, for the admin export; {@code status} null means all. */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.id FROM Article a WHERE :status IS NULL OR a.status = :status ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<Long> streamIdsNewestFirst(@Param("status") ArticleStatus status);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.slug = :categorySlug")
+    Slice<Long> findIdsByStatusAndCategorySlug(@Param("status") ArticleStatus status, @Param("categorySlug") String categorySlug, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.author.slug = :authorSlug")
+    Slice<Long> findIdsByStatusAndAuthorSlug(@Param("status") ArticleStatus status, @Param("authorSlug") String authorSlug, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a JOIN a.tags t WHERE a.status = :status AND t.slug = :tagSlug")
+    Slice<Long> findIdsByStatusAndTagSlug(@Param("status") ArticleStatus status, @Param("tagSlug") String tagSlug, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.academic = :academic")
+    Slice<Long> findIdsByStatusAndAcademic(@Param("status") ArticleStatus status, @Param("academic") Boolean academic, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.type = :type")
+    Slice<Long> findIdsByStatusAndCategoryType(@Param("status") ArticleStatus status, @Param("type") CategoryType type, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.id = :categoryId AND a.id <> :excludeId ORDER BY a.publishedDate DESC NULLS LAST")
+    Page<Long> findRelatedIds(@Param("status") ArticleStatus status, @Param("categoryId") Long categoryId, @Param("excludeId") Long excludeId, Pageable pageable);
+
+    /*
+     * Keyset feeds: the ids after a (publishedDate, id) position, newest first. The leading
+     * publishedDate bound is a range on idx_articles_status_published_id; no count query runs.
+     * Undated articles come last, so the feed continues with the Undated queries below once the
+     * dated ones run out.
+     */
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAfter(@Param("status") ArticleStatus status,
+                                    @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.slug = :categorySlug" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAndCategorySlugAfter(@Param("status") ArticleStatus status, @Param("categorySlug") String categorySlug,
+                                                   @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.author.slug = :authorSlug" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAndAuthorSlugAfter(@Param("status") ArticleStatus status, @Param("authorSlug") String authorSlug,
+                                                 @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a JOIN a.tags t WHERE a.status = :status AND t.slug = :tagSlug" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAndTagSlugAfter(@Param("status") ArticleStatus status, @Param("tagSlug") String tagSlug,
+                                              @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.academic = :academic" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAndAcademicAfter(@Param("status") ArticleStatus status, @Param("academic") Boolean academic,
+                                               @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.type = :type" + AFTER + NEWEST_FIRST)
+    List<Long> findIdsByStatusAndCategoryTypeAfter(@Param("status") ArticleStatus status, @Param("type") CategoryType type,
+                                                   @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAfter(@Param("status") ArticleStatus status, @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.slug = :categorySlug" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAndCategorySlugAfter(@Param("status") ArticleStatus status, @Param("categorySlug") String categorySlug,
+                                                          @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.author.slug = :authorSlug" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAndAuthorSlugAfter(@Param("status") ArticleStatus status, @Param("authorSlug") String authorSlug,
+                                                        @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a JOIN a.tags t WHERE a.status = :status AND t.slug = :tagSlug" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAndTagSlugAfter(@Param("status") ArticleStatus status, @Param("tagSlug") String tagSlug,
+                                                     @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.academic = :academic" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAndAcademicAfter(@Param("status") ArticleStatus status, @Param("academic") Boolean academic,
+                                                      @Param("id") Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND a.category.type = :type" + UNDATED_AFTER)
+    List<Long> findUndatedIdsByStatusAndCategoryTypeAfter(@Param("status") ArticleStatus status, @Param("type") CategoryType type,
+                                                          @Param("id") Long id, Limit limit);
+
+    @Query("""
+        SELECT new de.tzr.repository.ArticleListRow(
+            a.id, a.title, a.slug, a.excerpt, a.cardEmoji, a.coverImageUrl, a.status,
+            a.academic, a.featured, a.publishedDate, a.readingTimeMinutes, a.category.id, a.author.id,
+            t.id, t.title, t.excerpt, t.readingTimeMinutes, d.title, d.excerpt, d.readingTimeMinutes)
+        FROM Article a
+        LEFT JOIN a.translations t ON t.language = :lang
+        LEFT JOIN a.translations d ON d.language = de.tzr.model.Language.DE
+        WHERE a.id IN :ids
+        """)
+    List<ArticleListRow> findListRowsByIdIn(@Param("ids") Collection<Long> ids, @Param("lang") Language lang);
+
+    /** Pairs of article id and tag id; the tags themselves come from the reference data snapshot. */
+    @Query("SELECT a.id, t.id FROM Article a JOIN a.tags t WHERE a.id IN :ids")
+    List<Object[]> findTagIdsByArticleIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status AND (LOWER(a.title) LIKE LOWER(CONCAT('%',:q,'%')) OR LOWER(a.excerpt) LIKE LOWER(CONCAT('%',:q,'%')) OR LOWER(a.body) LIKE LOWER(CONCAT('%',:q,'%'))) ORDER BY a.publishedDate DESC NULLS LAST, a.id DESC")
+    Page<Long> search(@Param("status") ArticleStatus status, @Param("q") String query, Pageable pageable);
 
     Optional<Article> findByFeaturedTrueAndStatus(ArticleStatus status);
 
     long countByStatus(ArticleStatus status);
-
-    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.category.slug = :categorySlug AND a.id <> :excludeId ORDER BY a.publishedDate DESC")
-    Page<Article> findRelated(@Param("status") ArticleStatus status, @Param("categorySlug") String categorySlug, @Param("excludeId") Long excludeId, Pageable pageable);
+    long countByStatusAndCategorySlug(ArticleStatus status, String categorySlug);
+    long countByStatusAndAuthorSlug(ArticleStatus status, String authorSlug);
+    long countByStatusAndTagsSlug(ArticleStatus status, String tagSlug);
+    long countByStatusAndAcademic(ArticleStatus status, Boolean academic);
+    long countByStatusAndCategoryType(ArticleStatus status, CategoryType type);
 
     long countByAuthorId(Long authorId);
     long countByCategoryId(Long categoryId);
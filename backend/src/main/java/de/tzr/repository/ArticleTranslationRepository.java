@@ -10,4 +10,5 @@ import java.util.Optional;
 public interface ArticleTranslationRepository extends JpaRepository<ArticleTranslation, Long> {
     Optional<ArticleTranslation> findByArticleIdAndLanguage(Long articleId, Language language);
     List<ArticleTranslation> findByArticleId(Long articleId);
+    List<ArticleTranslation> findByArticleSlugOrderByLanguageAsc(String slug);
 }
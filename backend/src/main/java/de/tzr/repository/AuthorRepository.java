@@ -1,11 +1,29 @@
 package de.tzr.repository;
 
 import de.tzr.model.Author;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AuthorRepository extends JpaRepository<Author, Long> {
+
+    /** Query-cached; invalidated by any write to the table. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Author> findBySlug(String slug);
+
     boolean existsBySlug(String slug);
+
+    @EntityGraph(attributePaths = "translations")
+    List<Author> findWithTranslationsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "translations")
+    @Query("SELECT a FROM Author a")
+    List<Author> findAllWithTranslations();
 }
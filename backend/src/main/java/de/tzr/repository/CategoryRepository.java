@@ -2,14 +2,35 @@ package de.tzr.repository;
 
 import de.tzr.model.Category;
 import de.tzr.model.CategoryType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /** Query-cached; invalidated by any write to the table. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findBySlug(String slug);
+
     boolean existsBySlug(String slug);
+
+    @EntityGraph(attributePaths = "translations")
+    List<Category> findWithTranslationsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "translations")
+    @Query("SELECT c FROM Category c")
+    List<Category> findAllWithTranslations();
+
+    /** Query-cached like {@link #findBySlug}. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Category> findAllByOrderBySortOrderAsc();
+
     List<Category> findByType(CategoryType type);
 }
@@ -1,12 +1,42 @@
 package de.tzr.repository;
 
 import de.tzr.model.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    /** Query-cached; invalidated by any write to the table. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Tag> findBySlug(String slug);
+
     boolean existsBySlug(String slug);
     Optional<Tag> findByNameIgnoreCase(String name);
+
+    @EntityGraph(attributePaths = "translations")
+    List<Tag> findWithTranslationsByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "translations")
+    @Query("SELECT t FROM Tag t")
+    List<Tag> findAllWithTranslations();
+
+    /**
+     * (id, name, slug, articleCount, language, translatedName) per tag and translation, ordered
+     * by tag, read through a cursor; a tag without translations comes as one row with nulls.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id, t.name, t.slug, SIZE(t.articles), tr.language, tr.name FROM Tag t LEFT JOIN t.translations tr ORDER BY t.id")
+    Stream<Object[]> streamAllWithTranslations();
 }
@@ -3,12 +3,38 @@ package de.tzr.repository;
 import de.tzr.model.TranslationTask;
 import de.tzr.model.TranslationTaskEntityType;
 import de.tzr.model.TranslationTaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TranslationTaskRepository extends JpaRepository<TranslationTask, Long> {
     List<TranslationTask> findByStatus(TranslationTaskStatus status);
     long countByStatus(TranslationTaskStatus status);
     List<TranslationTask> findByEntityTypeAndEntityId(TranslationTaskEntityType entityType, Long entityId);
+
+    /**
+     * (id, entityType, entityId, sourceLang, targetLang, status, createdAt, updatedAt, title)
+     * per task, oldest first, read through a cursor; the title is null for a deleted entity.
+     * Scalars only, so nothing accumulates in the persistence context.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT t.id, t.entityType, t.entityId, t.sourceLang, t.targetLang, t.status, t.createdAt, t.updatedAt,
+               COALESCE(a.title, c.displayName, au.name, tg.name)
+        FROM TranslationTask t
+        LEFT JOIN Article a ON t.entityType = de.tzr.model.TranslationTaskEntityType.ARTICLE AND a.id = t.entityId
+        LEFT JOIN Category c ON t.entityType = de.tzr.model.TranslationTaskEntityType.CATEGORY AND c.id = t.entityId
+        LEFT JOIN Author au ON t.entityType = de.tzr.model.TranslationTaskEntityType.AUTHOR AND au.id = t.entityId
+        LEFT JOIN Tag tg ON t.entityType = de.tzr.model.TranslationTaskEntityType.TAG AND tg.id = t.entityId
+        ORDER BY t.id
+        """)
+    Stream<Object[]> streamAllWithTitles();
 }
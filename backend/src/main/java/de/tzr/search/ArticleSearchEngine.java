@@ -0,0 +1,13 @@
+package de.tzr.search;
+
+import de.tzr.model.Language;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Backend for the public article search. Exactly one implementation is active,
+ * selected by {@code search.mode}.
+ */
+public interface ArticleSearchEngine {
+
+    SearchHits search(String query, Language lang, Pageable pageable);
+}
@@ -0,0 +1,218 @@
+package de.tzr.search;
+
+import static de.tzr.mapper.TranslationResolver.resolve;
+
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.*;
+import de.tzr.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant search over published article titles, excerpts and tag names. Each language
+ * has its own in-memory {@link TrigramIndex} over the texts resolved to that language; every
+ * query word must match an indexed word within a small edit distance. Loaded at startup and
+ * patched per article. No highlights.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search", name = "mode", havingValue = "fuzzy")
+@Slf4j
+public class FuzzyArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int EXCERPT_WEIGHT = 1;
+
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+        Map.Entry.<Long, Double>comparingByValue().reversed()
+            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Map<Language, TrigramIndex> indexes = new EnumMap<>(Language.class);
+    private final Map<Language, CharArraySet> stopWords = new EnumMap<>(Language.class);
+    private final Map<Long, Set<Long>> articlesByTag = new HashMap<>();
+    private final Map<Long, Set<Long>> tagsByArticle = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FuzzyArticleSearchEngine(ArticleRepository articleRepository, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        for (Language lang : Language.values()) {
+            indexes.put(lang, new TrigramIndex());
+        }
+        stopWords.put(Language.DE, GermanAnalyzer.getDefaultStopSet());
+        stopWords.put(Language.PT, PortugueseAnalyzer.getDefaultStopSet());
+        stopWords.put(Language.EN, EnglishAnalyzer.getDefaultStopSet());
+    }
+
+    @Override
+    public SearchHits search(String query, Language lang, Pageable pageable) {
+        if (query == null) return SearchHits.empty();
+        List<String> words = SearchText.words(query).stream()
+            .filter(w -> !stopWords.get(lang).contains(w))
+            .distinct()
+            .toList();
+        if (words.isEmpty()) return SearchHits.empty();
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            scores = indexes.get(lang).search(words);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new SearchHits(page(scores, pageable), Map.of(), scores.size());
+    }
+
+    /**
+     * The ids of the requested page in ranking order. Common words match thousands of articles,
+     * so only the best {@code offset + size} entries are kept instead of sorting all of them.
+     */
+    private static List<Long> page(Map<Long, Double> scores, Pageable pageable) {
+        long end = Math.min(scores.size(), pageable.getOffset() + pageable.getPageSize());
+        if (end <= pageable.getOffset()) return List.of();
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>((int) end + 1, RANKING.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > end) best.poll();
+        }
+        Long[] ids = new Long[best.size()];
+        for (int i = ids.length - 1; i >= 0; i--) {
+            ids[i] = best.poll().getKey();
+        }
+        return List.of(ids).subList((int) pageable.getOffset(), ids.length);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int pageNumber = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest request = PageRequest.of(pageNumber++, BATCH_SIZE, Sort.by("id"));
+            hasNext = Boolean.TRUE.equals(readOnlyTx.execute(status -> {
+                Page<Article> page = articleRepository.findByStatus(ArticleStatus.PUBLISHED, request);
+                page.forEach(this::index);
+                return page.hasNext();
+            }));
+        }
+        log.info("Fuzzy search index loaded with {} articles", indexes.get(Language.DE).size());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        reindex(List.of(event.articleId()));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.entityType() != TranslationTaskEntityType.TAG) return;
+        Set<Long> articleIds = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            event.entityIds().forEach(tagId -> articleIds.addAll(articlesByTag.getOrDefault(tagId, Set.of())));
+        } finally {
+            lock.readLock().unlock();
+        }
+        reindex(List.copyOf(articleIds));
+    }
+
+    private void reindex(List<Long> articleIds) {
+        if (articleIds.isEmpty()) return;
+        Map<Long, Article> published = new HashMap<>();
+        for (Article a : articleRepository.findAllById(articleIds)) {
+            if (a.getStatus() == ArticleStatus.PUBLISHED) published.put(a.getId(), a);
+        }
+        for (Long id : articleIds) {
+            Article a = published.get(id);
+            if (a != null) index(a); else remove(id);
+        }
+    }
+
+    private void index(Article a) {
+        Map<Language, Map<String, Integer>> words = new EnumMap<>(Language.class);
+        for (Language lang : Language.values()) {
+            ArticleTranslation t = a.getTranslations().get(lang);
+            ArticleTranslation fallback = (t == null && lang != Language.DE) ? a.getTranslations().get(Language.DE) : null;
+            Map<String, Integer> weights = new HashMap<>();
+            addWords(weights, resolve(t != null ? t.getTitle() : null, fallback != null ? fallback.getTitle() : null, a.getTitle()), TITLE_WEIGHT);
+            addWords(weights, resolve(t != null ? t.getExcerpt() : null, fallback != null ? fallback.getExcerpt() : null, a.getExcerpt()), EXCERPT_WEIGHT);
+            for (Tag tag : a.getTags()) {
+                TagTranslation tt = tag.getTranslations().get(lang);
+                TagTranslation tagFallback = (tt == null && lang != Language.DE) ? tag.getTranslations().get(Language.DE) : null;
+                addWords(weights, resolve(tt != null ? tt.getName() : null, tagFallback != null ? tagFallback.getName() : null, tag.getName()), TAG_WEIGHT);
+            }
+            words.put(lang, weights);
+        }
+        Set<Long> tagIds = new HashSet<>();
+        a.getTags().forEach(tag -> tagIds.add(tag.getId()));
+
+        lock.writeLock().lock();
+        try {
+            words.forEach((lang, weights) -> indexes.get(lang).put(a.getId(), weights));
+            unlinkTags(a.getId());
+            tagsByArticle.put(a.getId(), tagIds);
+            tagIds.forEach(tagId -> articlesByTag.computeIfAbsent(tagId, k -> new HashSet<>()).add(a.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            indexes.values().forEach(index -> index.remove(articleId));
+            unlinkTags(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlinkTags(Long articleId) {
+        Set<Long> previous = tagsByArticle.remove(articleId);
+        if (previous == null) return;
+        for (Long tagId : previous) {
+            Set<Long> articles = articlesByTag.get(tagId);
+            if (articles == null) continue;
+            articles.remove(articleId);
+            if (articles.isEmpty()) articlesByTag.remove(tagId);
+        }
+    }
+
+    private static void addWords(Map<String, Integer> weights, String text, int weight) {
+        if (text == null) return;
+        for (String word : SearchText.words(text)) {
+            weights.merge(word, weight, Math::max);
+        }
+    }
+}
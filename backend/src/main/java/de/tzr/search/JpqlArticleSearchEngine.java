@@ -0,0 +1,29 @@
+package de.tzr.search;
+
+import de.tzr.model.ArticleStatus;
+import de.tzr.model.Language;
+import de.tzr.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Fallback mode: substring match over the German base columns. No ranking, no snippets.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search", name = "mode", havingValue = "jpql")
+@RequiredArgsConstructor
+public class JpqlArticleSearchEngine implements ArticleSearchEngine {
+
+    private final ArticleRepository articleRepository;
+
+    @Override
+    public SearchHits search(String query, Language lang, Pageable pageable) {
+        Page<Long> page = articleRepository.search(ArticleStatus.PUBLISHED, query, pageable);
+        return new SearchHits(page.getContent(), Map.of(), page.getTotalElements());
+    }
+}
@@ -0,0 +1,333 @@
+package de.tzr.search;
+
+import de.tzr.config.SearchProperties;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.model.Article;
+import de.tzr.model.ArticleStatus;
+import de.tzr.model.ArticleTranslation;
+import de.tzr.model.Language;
+import de.tzr.repository.ArticleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.de.GermanAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded full-text index over published articles, stored on disk through a memory-mapped
+ * directory. One document per article carrying the German base content and every
+ * translation; text fields are suffixed with the language so each gets its own analyzer
+ * (German stemming with umlaut/ß folding, Portuguese, English). Ranking is BM25.
+ * <p>
+ * A query in language L matches the L fields of translated articles and the German fields
+ * of articles without an L translation, so every article is ranked once in one lookup.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search", name = "mode", havingValue = "lucene", matchIfMissing = true)
+@Slf4j
+public class LuceneArticleSearchEngine implements ArticleSearchEngine {
+
+    static final String ID = "id";
+    static final String TRANSLATED = "translated";
+    private static final String VERSION_KEY = "version";
+    private static final String INDEX_VERSION = "2";
+    private static final int REBUILD_BATCH_SIZE = 100;
+    private static final int HIGHLIGHT_PASSAGES = 2;
+
+    private static final FieldType HIGHLIGHTED_TEXT = new FieldType(TextField.TYPE_STORED);
+    static {
+        HIGHLIGHTED_TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        HIGHLIGHTED_TEXT.freeze();
+    }
+
+    private final SearchProperties props;
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final Analyzer analyzer;
+
+    private MMapDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public LuceneArticleSearchEngine(SearchProperties props, ArticleRepository articleRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.props = props;
+        this.articleRepository = articleRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.analyzer = buildAnalyzer();
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        Path path = Path.of(props.getLucene().getIndexDir());
+        Files.createDirectories(path);
+        directory = new MMapDirectory(path);
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+            .setSimilarity(new BM25Similarity());
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        log.info("Opened search index at {}", path.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    @Override
+    public SearchHits search(String query, Language lang, Pageable pageable) {
+        if (query == null || query.isBlank()) return SearchHits.empty();
+
+        Query parsed;
+        try {
+            parsed = parse(query, lang);
+        } catch (ParseException e) {
+            log.debug("Unparseable search query '{}': {}", query, e.getMessage());
+            return SearchHits.empty();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+                TopDocs top = searcher.search(parsed, offset + pageable.getPageSize());
+                long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? top.totalHits.value : searcher.count(parsed);
+                if (offset >= top.scoreDocs.length) {
+                    return new SearchHits(List.of(), Map.of(), total);
+                }
+
+                ScoreDoc[] pageDocs = Arrays.copyOfRange(top.scoreDocs, offset, top.scoreDocs.length);
+                String[] snippets = highlight(searcher, parsed, lang, new TopDocs(top.totalHits, pageDocs));
+
+                List<Long> ids = new ArrayList<>(pageDocs.length);
+                Map<Long, String> highlights = new HashMap<>();
+                for (int i = 0; i < pageDocs.length; i++) {
+                    Long id = Long.valueOf(searcher.storedFields().document(pageDocs[i].doc).get(ID));
+                    ids.add(id);
+                    if (snippets[i] != null) highlights.put(id, snippets[i]);
+                }
+                return new SearchHits(ids, highlights, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search failed for query: " + query, e);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            Article article = articleRepository.findById(event.articleId()).orElse(null);
+            if (article != null && article.getStatus() == ArticleStatus.PUBLISHED) {
+                writer.updateDocument(new Term(ID, article.getId().toString()), toDocument(article));
+            } else {
+                writer.deleteDocuments(new Term(ID, event.articleId().toString()));
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to update search index for article {}: {}", event.articleId(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() throws IOException {
+        long published = articleRepository.countByStatus(ArticleStatus.PUBLISHED);
+        int indexed = writer.getDocStats().numDocs;
+        boolean outdated = !INDEX_VERSION.equals(indexVersion());
+        if (props.getLucene().isRebuildOnStartup() || outdated || indexed != published) {
+            log.info("Rebuilding search index ({} indexed, {} published, outdated: {})", indexed, published, outdated);
+            rebuild();
+        }
+    }
+
+    public void rebuild() throws IOException {
+        writer.deleteAll();
+        int pageNumber = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest request = PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE, Sort.by("id"));
+            hasNext = Boolean.TRUE.equals(readOnlyTx.execute(status -> {
+                Page<Article> page = articleRepository.findByStatus(ArticleStatus.PUBLISHED, request);
+                for (Article article : page) {
+                    try {
+                        writer.addDocument(toDocument(article));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return page.hasNext();
+            }));
+        }
+        writer.setLiveCommitData(Map.of(VERSION_KEY, INDEX_VERSION).entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("Search index rebuilt with {} documents", writer.getDocStats().numDocs);
+    }
+
+    Document toDocument(Article article) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, article.getId().toString(), Field.Store.YES));
+        addText(doc, Language.DE, article.getTitle(), article.getExcerpt(), article.getBody());
+        for (ArticleTranslation t : article.getTranslations().values()) {
+            if (t.getLanguage() == Language.DE || t.getTitle() == null || t.getTitle().isBlank()) continue;
+            addText(doc, t.getLanguage(), t.getTitle(), t.getExcerpt(), t.getBody());
+            doc.add(new StringField(TRANSLATED, t.getLanguage().name(), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private void addText(Document doc, Language lang, String title, String excerpt, String body) {
+        if (title != null) doc.add(new Field(field("title", lang), title, HIGHLIGHTED_TEXT));
+        if (excerpt != null) doc.add(new Field(field("excerpt", lang), SearchText.plainText(excerpt), HIGHLIGHTED_TEXT));
+        if (body != null) doc.add(new Field(field("body", lang), SearchText.plainText(body), HIGHLIGHTED_TEXT));
+    }
+
+    private Query parse(String query, Language lang) throws ParseException {
+        Query base = parseFields(query, Language.DE);
+        if (lang == Language.DE) return base;
+
+        Query untranslated = new BooleanQuery.Builder()
+            .add(base, BooleanClause.Occur.MUST)
+            .add(new TermQuery(new Term(TRANSLATED, lang.name())), BooleanClause.Occur.MUST_NOT)
+            .build();
+        return new BooleanQuery.Builder()
+            .add(parseFields(query, lang), BooleanClause.Occur.SHOULD)
+            .add(untranslated, BooleanClause.Occur.SHOULD)
+            .build();
+    }
+
+    private Query parseFields(String query, Language lang) throws ParseException {
+        Map<String, Float> boosts = new LinkedHashMap<>();
+        boosts.put(field("title", lang), 3f);
+        boosts.put(field("excerpt", lang), 2f);
+        boosts.put(field("body", lang), 1f);
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(boosts.keySet().toArray(String[]::new), analyzer, boosts);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        return parser.parse(QueryParser.escape(query.trim()));
+    }
+
+    /**
+     * Body snippets in the requested language, or from the German body for articles
+     * that matched through the fallback.
+     */
+    private String[] highlight(IndexSearcher searcher, Query query, Language lang, TopDocs pageDocs) throws IOException {
+        UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+            .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", " … ", true))
+            .build();
+        String langField = field("body", lang);
+        String baseField = field("body", Language.DE);
+        if (lang == Language.DE) {
+            return highlighter.highlight(baseField, query, pageDocs, HIGHLIGHT_PASSAGES);
+        }
+        Map<String, String[]> byField = highlighter.highlightFields(new String[]{langField, baseField}, query, pageDocs,
+            new int[]{HIGHLIGHT_PASSAGES, HIGHLIGHT_PASSAGES});
+        String[] snippets = byField.get(langField);
+        String[] fallback = byField.get(baseField);
+        for (int i = 0; i < snippets.length; i++) {
+            if (snippets[i] == null) snippets[i] = fallback[i];
+        }
+        return snippets;
+    }
+
+    private String indexVersion() {
+        Iterable<Map.Entry<String, String>> data = writer.getLiveCommitData();
+        if (data == null) return null;
+        for (Map.Entry<String, String> e : data) {
+            if (VERSION_KEY.equals(e.getKey())) return e.getValue();
+        }
+        return null;
+    }
+
+    static String field(String name, Language lang) {
+        return name + "_" + lang.name().toLowerCase();
+    }
+
+    private static Analyzer buildAnalyzer() {
+        Map<String, Analyzer> perField = new HashMap<>();
+        Map<Language, Analyzer> byLanguage = new EnumMap<>(Language.class);
+        byLanguage.put(Language.DE, new GermanAnalyzer());
+        byLanguage.put(Language.PT, new PortugueseAnalyzer());
+        byLanguage.put(Language.EN, new EnglishAnalyzer());
+        for (Map.Entry<Language, Analyzer> e : byLanguage.entrySet()) {
+            for (String name : List.of("title", "excerpt", "body")) {
+                perField.put(field(name, e.getKey()), e.getValue());
+            }
+        }
+        return new PerFieldAnalyzerWrapper(new StandardAnalyzer(), perField);
+    }
+}
@@ -0,0 +1,108 @@
+package de.tzr.search;
+
+import de.tzr.model.Language;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PostgreSQL full-text search over generated, GIN-indexed {@code tsvector} columns on
+ * {@code articles} (German base content) and {@code article_translations} (configuration
+ * chosen by the row's language), created by infra/postgres/search-vectors.sql. Articles without a translation in the requested language
+ * are matched on their German base content instead.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search", name = "mode", havingValue = "postgres")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresArticleSearchEngine implements ArticleSearchEngine {
+
+    /**
+     * Two index-backed branches: translated rows for :lang, and German base rows of
+     * articles that have no :lang translation. Headlines are only built for the page.
+     */
+    private static final String HITS = """
+        WITH q AS (
+            SELECT websearch_to_tsquery(CAST(:config AS regconfig), :q) AS lq,
+                   websearch_to_tsquery('german', :q) AS dq
+        ),
+        hits AS (
+            SELECT t.article_id AS id, ts_rank(t.search_vector, q.lq) AS rank,
+                   t.body AS body, CAST(:config AS regconfig) AS cfg, q.lq AS tq
+            FROM article_translations t JOIN articles a ON a.id = t.article_id, q
+            WHERE t.language = :lang AND a.status = 'PUBLISHED' AND t.search_vector @@ q.lq
+            UNION ALL
+            SELECT a.id, ts_rank(a.search_vector, q.dq), a.body, CAST('german' AS regconfig), q.dq
+            FROM articles a, q
+            WHERE a.status = 'PUBLISHED' AND a.search_vector @@ q.dq
+              AND NOT EXISTS (SELECT 1 FROM article_translations t WHERE t.article_id = a.id AND t.language = :lang)
+        )
+        """;
+
+    private static final String PAGE_QUERY = HITS + """
+        , page AS (SELECT * FROM hits ORDER BY rank DESC, id DESC LIMIT :limit OFFSET :offset)
+        SELECT id, ts_headline(cfg, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g'), tq,
+                   'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10, FragmentDelimiter=" … "') AS highlight
+        FROM page
+        ORDER BY rank DESC, id DESC
+        """;
+
+    private static final String COUNT_QUERY = HITS + "SELECT count(*) FROM hits";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** The columns come from infra/postgres/search-vectors.sql, applied on deploy; searches fail without them. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkSchema() {
+        Long columns = jdbc.getJdbcTemplate().queryForObject("""
+            SELECT count(*) FROM information_schema.columns
+            WHERE table_schema = current_schema() AND column_name = 'search_vector'
+              AND table_name IN ('articles', 'article_translations')
+            """, Long.class);
+        if (columns == null || columns < 2) {
+            log.error("Full-text search columns are missing; apply infra/postgres/search-vectors.sql");
+        }
+    }
+
+    @Override
+    public SearchHits search(String query, Language lang, Pageable pageable) {
+        if (query == null || query.isBlank()) return SearchHits.empty();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("q", query.trim())
+            .addValue("lang", lang.name())
+            .addValue("config", textSearchConfig(lang))
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset());
+
+        List<Long> ids = new ArrayList<>();
+        Map<Long, String> highlights = new HashMap<>();
+        jdbc.query(PAGE_QUERY, params, rs -> {
+            long id = rs.getLong("id");
+            ids.add(id);
+            String highlight = rs.getString("highlight");
+            if (highlight != null && highlight.contains("<mark>")) highlights.put(id, highlight);
+        });
+        Long total = jdbc.queryForObject(COUNT_QUERY, params, Long.class);
+        return new SearchHits(ids, highlights, total != null ? total : 0);
+    }
+
+    static String textSearchConfig(Language lang) {
+        return switch (lang) {
+            case DE -> "german";
+            case PT -> "portuguese";
+            case EN -> "english";
+        };
+    }
+}
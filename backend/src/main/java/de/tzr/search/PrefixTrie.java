@@ -0,0 +1,147 @@
+package de.tzr.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Character trie over normalized keys. Children are kept in sorted parallel arrays and every
+ * node caches the best {@code topK} values of its subtree, so a prefix lookup is a walk down
+ * the prefix plus a copy of at most topK values. Keys are cut at {@code maxDepth} characters.
+ * Not thread-safe; callers guard it.
+ */
+final class PrefixTrie<T> {
+
+    private final Comparator<T> order;
+    private final int topK;
+    private final int maxDepth;
+    private final Node<T> root = new Node<>();
+
+    PrefixTrie(Comparator<T> order, int topK, int maxDepth) {
+        this.order = order;
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+    }
+
+    void add(String key, T value) {
+        String k = truncate(key);
+        List<Node<T>> path = new ArrayList<>(k.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < k.length(); i++) {
+            node = node.childOrCreate(k.charAt(i));
+            path.add(node);
+        }
+        node.values.add(value);
+        for (Node<T> n : path) {
+            n.offer(value, order, topK);
+        }
+    }
+
+    boolean remove(String key, T value) {
+        String k = truncate(key);
+        List<Node<T>> path = new ArrayList<>(k.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (int i = 0; i < k.length(); i++) {
+            node = node.child(k.charAt(i));
+            if (node == null) return false;
+            path.add(node);
+        }
+        if (!node.values.remove(value)) return false;
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> n = path.get(i);
+            if (i > 0 && n.isEmpty()) {
+                path.get(i - 1).removeChild(k.charAt(i - 1));
+            } else {
+                n.recomputeTop(order, topK);
+            }
+        }
+        return true;
+    }
+
+    List<T> lookup(String prefix, int limit) {
+        String p = truncate(prefix);
+        Node<T> node = root;
+        for (int i = 0; i < p.length() && node != null; i++) {
+            node = node.child(p.charAt(i));
+        }
+        if (node == null) return List.of();
+        return List.copyOf(node.top.subList(0, Math.min(limit, node.top.size())));
+    }
+
+    private String truncate(String key) {
+        return key.length() > maxDepth ? key.substring(0, maxDepth) : key;
+    }
+
+    private static final class Node<T> {
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private Object[] children = new Object[0];
+        private final List<T> values = new ArrayList<>(0);
+        private List<T> top = new ArrayList<>(0);
+
+        @SuppressWarnings("unchecked")
+        Node<T> child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? (Node<T>) children[i] : null;
+        }
+
+        Node<T> childOrCreate(char c) {
+            Node<T> existing = child(c);
+            if (existing != null) return existing;
+            int at = -Arrays.binarySearch(keys, c) - 1;
+            Node<T> created = new Node<>();
+            char[] newKeys = new char[keys.length + 1];
+            Object[] newChildren = new Object[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = created;
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char c) {
+            int at = Arrays.binarySearch(keys, c);
+            if (at < 0) return;
+            char[] newKeys = new char[keys.length - 1];
+            Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            System.arraycopy(keys, at + 1, newKeys, at, keys.length - at - 1);
+            System.arraycopy(children, at + 1, newChildren, at, children.length - at - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return keys.length == 0 && values.isEmpty();
+        }
+
+        void offer(T value, Comparator<T> order, int topK) {
+            if (top.contains(value)) return;
+            int pos = Collections.binarySearch(top, value, order);
+            if (pos < 0) pos = -pos - 1;
+            if (pos >= topK) return;
+            top.add(pos, value);
+            if (top.size() > topK) top.remove(top.size() - 1);
+        }
+
+        @SuppressWarnings("unchecked")
+        void recomputeTop(Comparator<T> order, int topK) {
+            List<T> merged = new ArrayList<>(values);
+            for (Object child : children) {
+                merged.addAll(((Node<T>) child).top);
+            }
+            top = new ArrayList<>(merged.stream().distinct().sorted(order).limit(topK).toList());
+        }
+    }
+}
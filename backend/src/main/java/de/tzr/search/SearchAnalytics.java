@@ -0,0 +1,82 @@
+package de.tzr.search;
+
+import de.tzr.config.SearchProperties;
+import de.tzr.dto.SearchAnalyticsDTO.QueryStat;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Lock-free counters of public search queries: how often each normalized query was asked and
+ * how often it returned nothing. Only the first {@code search.analytics.max-tracked-queries}
+ * distinct queries get their own counters so the map cannot grow without bound; the totals
+ * include every query.
+ */
+@Component
+public class SearchAnalytics {
+
+    private static final class Counter {
+        private final LongAdder queries = new LongAdder();
+        private final LongAdder zeroResults = new LongAdder();
+    }
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder totalQueries = new LongAdder();
+    private final LongAdder totalZeroResults = new LongAdder();
+    private final LongAdder untrackedQueries = new LongAdder();
+    private final int maxTrackedQueries;
+
+    public SearchAnalytics(SearchProperties properties) {
+        this.maxTrackedQueries = properties.getAnalytics().getMaxTrackedQueries();
+    }
+
+    public void record(String query, boolean zeroResults) {
+        totalQueries.increment();
+        if (zeroResults) totalZeroResults.increment();
+
+        Counter counter = counters.get(query);
+        if (counter == null) {
+            if (counters.size() >= maxTrackedQueries) {
+                untrackedQueries.increment();
+                return;
+            }
+            counter = counters.computeIfAbsent(query, q -> new Counter());
+        }
+        counter.queries.increment();
+        if (zeroResults) counter.zeroResults.increment();
+    }
+
+    public long totalQueries() {
+        return totalQueries.sum();
+    }
+
+    public long totalZeroResults() {
+        return totalZeroResults.sum();
+    }
+
+    public long untrackedQueries() {
+        return untrackedQueries.sum();
+    }
+
+    public List<QueryStat> topQueries(int limit) {
+        return top(limit, QueryStat::count);
+    }
+
+    public List<QueryStat> topZeroResultQueries(int limit) {
+        return top(limit, QueryStat::zeroResults);
+    }
+
+    private List<QueryStat> top(int limit, ToLongFunction<QueryStat> metric) {
+        return counters.entrySet().stream()
+            .map(e -> new QueryStat(e.getKey(), e.getValue().queries.sum(), e.getValue().zeroResults.sum()))
+            .filter(s -> metric.applyAsLong(s) > 0)
+            .sorted(Comparator.comparingLong(metric).reversed().thenComparing(QueryStat::query))
+            .limit(limit)
+            .toList();
+    }
+}
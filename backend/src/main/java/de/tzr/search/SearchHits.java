@@ -0,0 +1,15 @@
+package de.tzr.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of search results: article ids in rank order, optional highlighted snippets
+ * keyed by article id, and the total number of matches.
+ */
+public record SearchHits(List<Long> articleIds, Map<Long, String> highlights, long totalHits) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), Map.of(), 0);
+    }
+}
@@ -0,0 +1,72 @@
+package de.tzr.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.tzr.config.SearchProperties;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.PageResponse;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.Language;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicting cache of public search result pages. Every article or reference data
+ * change starts a new generation: the generation is part of the key, so a page computed
+ * against the old index can never be served afterwards, even if it is stored late. The
+ * listeners run after the search index listeners so the new generation sees the new index.
+ */
+@Component
+public class SearchResultCache {
+
+    private record Key(long generation, String query, Language lang, int page, int size) {}
+
+    private final Cache<Key, PageResponse<ArticleListDTO>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public SearchResultCache(SearchProperties properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getCache().getMaxEntries())
+            .expireAfterWrite(properties.getCache().getTtl())
+            .recordStats()
+            .build();
+    }
+
+    public PageResponse<ArticleListDTO> get(String query, Language lang, int page, int size,
+                                            Supplier<PageResponse<ArticleListDTO>> loader) {
+        Key key = new Key(generation.get(), query, lang, page, size);
+        return cache.get(key, k -> loader.get());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,41 @@
+package de.tzr.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Text helpers shared by the search indexes.
+ */
+public final class SearchText {
+
+    private SearchText() {}
+
+    /**
+     * Lowercase, ß to ss, diacritics stripped, punctuation collapsed to single spaces.
+     */
+    public static String normalize(String text) {
+        String folded = Normalizer.normalize(text.toLowerCase(Locale.ROOT).replace("ß", "ss"), Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "");
+        return folded.replaceAll("[^\\p{Alnum}]+", " ").trim();
+    }
+
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        return normalized.isEmpty() ? List.of() : Arrays.asList(normalized.split(" "));
+    }
+
+    /**
+     * Article HTML reduced to its text content.
+     */
+    public static String plainText(String html) {
+        return html.replaceAll("<[^>]*>", " ")
+            .replace("&nbsp;", " ")
+            .replace("&ndash;", "–")
+            .replace("&mdash;", "—")
+            .replace("&amp;", "&")
+            .replaceAll("\\s+", " ")
+            .trim();
+    }
+}
@@ -0,0 +1,209 @@
+package de.tzr.search;
+
+import static de.tzr.mapper.TranslationResolver.resolve;
+
+import de.tzr.dto.SuggestionDTO;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.*;
+import de.tzr.repository.ArticleRepository;
+import de.tzr.repository.CategoryRepository;
+import de.tzr.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead suggestions for the public search box, served from one in-memory prefix trie per
+ * language over published article titles, tag names and category names (each resolved to
+ * that language). Multi-word texts are reachable from the start of every word. The tries are
+ * loaded once at startup and then patched per entity as articles, tags and categories change.
+ */
+@Service
+@Slf4j
+public class SuggestionService {
+
+    public static final int MAX_LIMIT = 20;
+    private static final int MAX_DEPTH = 32;
+    private static final int BATCH_SIZE = 200;
+
+    private static final Comparator<SuggestionDTO> ORDER = Comparator
+        .comparingInt((SuggestionDTO s) -> typeRank(s.type()))
+        .thenComparingInt(s -> s.text().length())
+        .thenComparing(SuggestionDTO::text)
+        .thenComparing(SuggestionDTO::slug);
+
+    private final ArticleRepository articleRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Map<Language, PrefixTrie<SuggestionDTO>> tries = new EnumMap<>(Language.class);
+    private final Map<String, List<Entry>> entriesBySource = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Entry(Language lang, String key, SuggestionDTO value) {}
+
+    public SuggestionService(ArticleRepository articleRepository, CategoryRepository categoryRepository,
+                             TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        for (Language lang : Language.values()) {
+            tries.put(lang, new PrefixTrie<>(ORDER, MAX_LIMIT, MAX_DEPTH));
+        }
+    }
+
+    public List<SuggestionDTO> suggest(String query, Language lang, int limit) {
+        if (query == null) return List.of();
+        String prefix = SearchText.normalize(query);
+        if (prefix.isEmpty()) return List.of();
+        lock.readLock().lock();
+        try {
+            return tries.get(lang).lookup(prefix, Math.min(limit, MAX_LIMIT));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        readOnlyTx.executeWithoutResult(status -> {
+            categoryRepository.findAll().forEach(this::register);
+            tagRepository.findAll().forEach(this::register);
+        });
+        int pageNumber = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest request = PageRequest.of(pageNumber++, BATCH_SIZE, Sort.by("id"));
+            hasNext = Boolean.TRUE.equals(readOnlyTx.execute(status -> {
+                Page<Article> page = articleRepository.findByStatus(ArticleStatus.PUBLISHED, request);
+                page.forEach(this::register);
+                return page.hasNext();
+            }));
+        }
+        log.info("Suggestion index loaded with {} sources", entriesBySource.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        articleRepository.findById(event.articleId())
+            .filter(a -> a.getStatus() == ArticleStatus.PUBLISHED)
+            .ifPresentOrElse(this::register,
+                () -> unregister(sourceKey(TranslationTaskEntityType.ARTICLE, event.articleId())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        for (Long id : event.entityIds()) {
+            switch (event.entityType()) {
+                case CATEGORY -> categoryRepository.findById(id).ifPresentOrElse(this::register,
+                    () -> unregister(sourceKey(TranslationTaskEntityType.CATEGORY, id)));
+                case TAG -> tagRepository.findById(id).ifPresentOrElse(this::register,
+                    () -> unregister(sourceKey(TranslationTaskEntityType.TAG, id)));
+                default -> { }
+            }
+        }
+    }
+
+    private void register(Article a) {
+        List<Entry> entries = new ArrayList<>();
+        for (Language lang : Language.values()) {
+            ArticleTranslation t = a.getTranslations().get(lang);
+            ArticleTranslation fallback = (t == null && lang != Language.DE) ? a.getTranslations().get(Language.DE) : null;
+            String title = resolve(t != null ? t.getTitle() : null, fallback != null ? fallback.getTitle() : null, a.getTitle());
+            addEntries(entries, lang, new SuggestionDTO(TranslationTaskEntityType.ARTICLE.name(), title, a.getSlug()));
+        }
+        store(sourceKey(TranslationTaskEntityType.ARTICLE, a.getId()), entries);
+    }
+
+    private void register(Category c) {
+        List<Entry> entries = new ArrayList<>();
+        for (Language lang : Language.values()) {
+            CategoryTranslation t = c.getTranslations().get(lang);
+            CategoryTranslation fallback = (t == null && lang != Language.DE) ? c.getTranslations().get(Language.DE) : null;
+            String name = resolve(t != null ? t.getDisplayName() : null, fallback != null ? fallback.getDisplayName() : null, c.getDisplayName());
+            addEntries(entries, lang, new SuggestionDTO(TranslationTaskEntityType.CATEGORY.name(), name, c.getSlug()));
+        }
+        store(sourceKey(TranslationTaskEntityType.CATEGORY, c.getId()), entries);
+    }
+
+    private void register(Tag tag) {
+        List<Entry> entries = new ArrayList<>();
+        for (Language lang : Language.values()) {
+            TagTranslation t = tag.getTranslations().get(lang);
+            TagTranslation fallback = (t == null && lang != Language.DE) ? tag.getTranslations().get(Language.DE) : null;
+            String name = resolve(t != null ? t.getName() : null, fallback != null ? fallback.getName() : null, tag.getName());
+            addEntries(entries, lang, new SuggestionDTO(TranslationTaskEntityType.TAG.name(), name, tag.getSlug()));
+        }
+        store(sourceKey(TranslationTaskEntityType.TAG, tag.getId()), entries);
+    }
+
+    private void addEntries(List<Entry> entries, Language lang, SuggestionDTO value) {
+        if (value.text() == null) return;
+        String normalized = SearchText.normalize(value.text());
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                entries.add(new Entry(lang, normalized.substring(i), value));
+            }
+        }
+    }
+
+    private void store(String source, List<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            removeEntries(entriesBySource.remove(source));
+            for (Entry e : entries) {
+                tries.get(e.lang()).add(e.key(), e.value());
+            }
+            entriesBySource.put(source, entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unregister(String source) {
+        lock.writeLock().lock();
+        try {
+            removeEntries(entriesBySource.remove(source));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeEntries(List<Entry> entries) {
+        if (entries == null) return;
+        for (Entry e : entries) {
+            tries.get(e.lang()).remove(e.key(), e.value());
+        }
+    }
+
+    private static String sourceKey(TranslationTaskEntityType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static int typeRank(String type) {
+        return switch (TranslationTaskEntityType.valueOf(type)) {
+            case CATEGORY -> 0;
+            case TAG -> 1;
+            default -> 2;
+        };
+    }
+}
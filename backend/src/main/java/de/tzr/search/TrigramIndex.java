@@ -0,0 +1,184 @@
+package de.tzr.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant word index. Every distinct normalized word is split into padded character
+ * trigrams; a query word is matched against the words sharing enough trigrams to be within
+ * its edit budget, and those candidates are verified with a bounded edit distance
+ * (insert, delete, substitute, swap of adjacent characters).
+ * <p>
+ * Documents are article ids with a weight per word (e.g. title words count more than excerpt
+ * words). Words that lose all their documents stay in the dictionary with empty postings.
+ * Not thread-safe; callers guard it.
+ */
+final class TrigramIndex {
+
+    private final List<String> terms = new ArrayList<>();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Map<Long, Integer>> postings = new ArrayList<>();
+    private final Map<String, IntList> trigramPostings = new HashMap<>();
+    private final Map<Long, Map<Integer, Integer>> documents = new HashMap<>();
+
+    /**
+     * Replaces the indexed words of a document.
+     */
+    void put(Long docId, Map<String, Integer> wordWeights) {
+        remove(docId);
+        Map<Integer, Integer> docTerms = new HashMap<>();
+        for (Map.Entry<String, Integer> e : wordWeights.entrySet()) {
+            int termId = termId(e.getKey());
+            postings.get(termId).put(docId, e.getValue());
+            docTerms.put(termId, e.getValue());
+        }
+        documents.put(docId, docTerms);
+    }
+
+    void remove(Long docId) {
+        Map<Integer, Integer> docTerms = documents.remove(docId);
+        if (docTerms == null) return;
+        for (Integer termId : docTerms.keySet()) {
+            postings.get(termId).remove(docId);
+        }
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    /**
+     * Scores documents that match every query word within its edit budget. A word's
+     * contribution is the document's weight for the matched word times the match similarity.
+     */
+    Map<Long, Double> search(List<String> words) {
+        Map<Long, Double> scores = null;
+        for (String word : words) {
+            Map<Long, Double> wordScores = new HashMap<>();
+            for (Map.Entry<Integer, Double> candidate : candidates(word).entrySet()) {
+                double similarity = candidate.getValue();
+                for (Map.Entry<Long, Integer> p : postings.get(candidate.getKey()).entrySet()) {
+                    wordScores.merge(p.getKey(), p.getValue() * similarity, Math::max);
+                }
+            }
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                scores.keySet().retainAll(wordScores.keySet());
+                scores.replaceAll((id, score) -> score + wordScores.get(id));
+            }
+            if (scores.isEmpty()) break;
+        }
+        return scores != null ? scores : Map.of();
+    }
+
+    /**
+     * Dictionary words within the edit budget of {@code word}, mapped to their similarity in (0, 1].
+     */
+    Map<Integer, Double> candidates(String word) {
+        int maxEdits = maxEdits(word.length());
+        if (maxEdits == 0) {
+            Integer exact = termIds.get(word);
+            return exact != null ? Map.of(exact, 1.0) : Map.of();
+        }
+
+        // one edit touches up to four padded trigrams (a swap of adjacent letters does)
+        Set<String> grams = trigrams(word);
+        int minShared = Math.max(1, grams.size() - 4 * maxEdits);
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            IntList ids = trigramPostings.get(gram);
+            if (ids == null) continue;
+            for (int i = 0; i < ids.size; i++) {
+                shared.merge(ids.values[i], 1, Integer::sum);
+            }
+        }
+
+        Map<Integer, Double> result = new HashMap<>();
+        for (Map.Entry<Integer, Integer> e : shared.entrySet()) {
+            if (e.getValue() < minShared) continue;
+            String term = terms.get(e.getKey());
+            if (Math.abs(term.length() - word.length()) > maxEdits) continue;
+            int distance = boundedDistance(word, term, maxEdits);
+            if (distance <= maxEdits) {
+                result.put(e.getKey(), 1.0 - (double) distance / Math.max(word.length(), term.length()));
+            }
+        }
+        return result;
+    }
+
+    static int maxEdits(int length) {
+        if (length <= 3) return 0;
+        if (length <= 7) return 1;
+        return 2;
+    }
+
+    static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance, or {@code max + 1} as soon as it must exceed {@code max}.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int[] prevPrev = new int[m + 1];
+        int[] prev = new int[m + 1];
+        int[] curr = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+
+        for (int i = 1; i <= n; i++) {
+            curr[0] = i;
+            int rowMin = curr[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(prev[j] + 1, curr[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, prevPrev[j - 2] + 1);
+                }
+                curr[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) return max + 1;
+            int[] recycled = prevPrev;
+            prevPrev = prev;
+            prev = curr;
+            curr = recycled;
+        }
+        return Math.min(prev[m], max + 1);
+    }
+
+    private int termId(String term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) return existing;
+        int id = terms.size();
+        terms.add(term);
+        termIds.put(term, id);
+        postings.add(new HashMap<>(4));
+        for (String gram : trigrams(term)) {
+            trigramPostings.computeIfAbsent(gram, g -> new IntList()).add(id);
+        }
+        return id;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.tzr.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Totals for the article list filters, so an offset page costs one id query instead of an id
+ * query plus a COUNT. Any article change, and any category, author or tag change (slugs and
+ * category types are filter values), starts a new generation; counts are recomputed lazily.
+ * The generation is part of the key so a count computed before a change is never served after it.
+ */
+@Component
+public class ArticleCountCache {
+
+    /** Filter name plus its value, e.g. ("tag", "sprachbildung"). */
+    private record Key(long generation, String filter, Object value) {}
+
+    private final Cache<Key, Long> counts = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(Duration.ofMinutes(30))
+        .recordStats()
+        .build();
+    private final AtomicLong generation = new AtomicLong();
+
+    public long get(String filter, Object value, LongSupplier counter) {
+        return counts.get(new Key(generation.get(), filter, value), k -> counter.getAsLong());
+    }
+
+    public CacheStats stats() {
+        return counts.stats();
+    }
+
+    public long size() {
+        return counts.estimatedSize();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        counts.invalidateAll();
+    }
+}
@@ -0,0 +1,183 @@
+package de.tzr.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.tzr.config.CacheProperties;
+import de.tzr.dto.ArticleDTO;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.Language;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Full article DTOs per (slug, language), plus the featured article per language, bounded by
+ * entry count. Unlike the list caches this one is invalidated precisely: an article change
+ * drops only that article's entries (under any slug it was cached with) and the featured
+ * entries, a category, author or tag change only the articles that embed it.
+ * <p>
+ * Loads are single-flight: the first caller for a key runs the load on its own thread, in its
+ * own read-only transaction, and every concurrent caller for that key waits for the same
+ * result instead of loading again. A failed load is not kept. A load that overlaps an
+ * invalidation may have read the old state; it is returned to its waiters but not kept.
+ */
+@Component
+public class ArticleDtoCache {
+
+    /** A null slug stands for the featured article. */
+    private record Key(String slug, Language lang) {
+        boolean featured() {
+            return slug == null;
+        }
+    }
+
+    private final AsyncCache<Key, ArticleDTO> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final TransactionTemplate readOnlyTx;
+
+    public ArticleDtoCache(CacheProperties properties, PlatformTransactionManager transactionManager) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getArticles().getMaxEntries())
+            .recordStats()
+            .buildAsync();
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public ArticleDTO get(String slug, Language lang, Supplier<ArticleDTO> loader) {
+        return load(new Key(slug, lang), loader);
+    }
+
+    public ArticleDTO getFeatured(Language lang, Supplier<ArticleDTO> loader) {
+        return load(new Key(null, lang), loader);
+    }
+
+    /**
+     * Entries for {@code slugs} that exist: cached ones as they are, the rest from one bulk
+     * load of the missing slugs (slug to DTO; slugs it leaves out are not found).
+     */
+    public Map<String, ArticleDTO> getAll(Collection<String> slugs, Language lang,
+                                          Function<Set<String>, Map<String, ArticleDTO>> loader) {
+        long seen = invalidations.get();
+        CompletableFuture<Map<Key, ArticleDTO>> mine = new CompletableFuture<>();
+        Set<Key> missing = new HashSet<>();
+        CompletableFuture<Map<Key, ArticleDTO>> result = cache.getAll(
+            slugs.stream().map(slug -> new Key(slug, lang)).toList(),
+            (keys, executor) -> {
+                missing.addAll(keys);
+                return mine;
+            });
+        if (!missing.isEmpty()) {
+            try {
+                Set<String> missingSlugs = missing.stream().map(Key::slug).collect(Collectors.toSet());
+                Map<String, ArticleDTO> loaded = readOnlyTx.execute(status -> loader.apply(missingSlugs));
+                Map<Key, ArticleDTO> byKey = new HashMap<>();
+                loaded.forEach((slug, dto) -> byKey.put(new Key(slug, lang), dto));
+                mine.complete(byKey);
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+            }
+            if (invalidations.get() != seen) {
+                cache.synchronous().invalidateAll(missing);
+            }
+        }
+        Map<String, ArticleDTO> bySlug = new HashMap<>();
+        join(result).forEach((key, dto) -> bySlug.put(key.slug(), dto));
+        return bySlug;
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidateArticle(event.articleId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        List<Long> ids = event.entityIds();
+        switch (event.entityType()) {
+            case ARTICLE -> ids.forEach(this::invalidateArticle);
+            case CATEGORY -> invalidateWhere(dto -> dto.category() != null && ids.contains(dto.category().id()));
+            case AUTHOR -> invalidateWhere(dto -> dto.author() != null && ids.contains(dto.author().id()));
+            case TAG -> invalidateWhere(dto -> dto.tags() != null
+                && dto.tags().stream().anyMatch(tag -> ids.contains(tag.id())));
+        }
+    }
+
+    private ArticleDTO load(Key key, Supplier<ArticleDTO> loader) {
+        long seen = invalidations.get();
+        CompletableFuture<ArticleDTO> mine = new CompletableFuture<>();
+        AtomicBoolean owner = new AtomicBoolean();
+        CompletableFuture<ArticleDTO> result = cache.get(key, (k, executor) -> {
+            owner.set(true);
+            return mine;
+        });
+        if (owner.get()) {
+            try {
+                mine.complete(readOnlyTx.execute(status -> loader.get()));
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+            }
+            if (invalidations.get() != seen) {
+                cache.asMap().remove(key, mine);
+            }
+        }
+        return join(result);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /** The featured entries go too: the change may have featured or unfeatured this article. */
+    private void invalidateArticle(Long articleId) {
+        invalidations.incrementAndGet();
+        cache.asMap().entrySet().removeIf(entry -> entry.getKey().featured()
+            || matches(entry.getValue(), dto -> dto.id().equals(articleId)));
+    }
+
+    /** Reference data edits are rare and the cache is bounded, so a scan beats keeping reverse indexes. */
+    private void invalidateWhere(Predicate<ArticleDTO> affected) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(future -> matches(future, affected));
+    }
+
+    /** Loads still in flight are left alone; they see the bumped counter and drop themselves. */
+    private static boolean matches(CompletableFuture<ArticleDTO> future, Predicate<ArticleDTO> affected) {
+        return future.isDone() && !future.isCompletedExceptionally() && affected.test(future.join());
+    }
+}
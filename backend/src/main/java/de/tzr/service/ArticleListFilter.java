@@ -0,0 +1,37 @@
+package de.tzr.service;
+
+import de.tzr.model.CategoryType;
+
+/**
+ * Public list filters as accepted by the article list endpoint; the first one set wins, in
+ * the order of the components. All null means every published article.
+ */
+public record ArticleListFilter(String category, String author, String tag, Boolean academic, String type) {
+
+    public static final ArticleListFilter NONE = new ArticleListFilter(null, null, null, null, null);
+    public static final ArticleListFilter ACADEMIC = new ArticleListFilter(null, null, null, true, null);
+
+    public static ArticleListFilter category(String slug) {
+        return new ArticleListFilter(slug, null, null, null, null);
+    }
+
+    public static ArticleListFilter author(String slug) {
+        return new ArticleListFilter(null, slug, null, null, null);
+    }
+
+    public static ArticleListFilter tag(String slug) {
+        return new ArticleListFilter(null, null, slug, null, null);
+    }
+
+    public static ArticleListFilter type(String type) {
+        return new ArticleListFilter(null, null, null, null, type);
+    }
+
+    public boolean isAcademic() {
+        return Boolean.TRUE.equals(academic);
+    }
+
+    public CategoryType categoryType() {
+        return CategoryType.valueOf(type);
+    }
+}
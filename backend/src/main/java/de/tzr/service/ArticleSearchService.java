@@ -0,0 +1,58 @@
+package de.tzr.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.PageResponse;
+import de.tzr.dto.SearchAnalyticsDTO;
+import de.tzr.model.Language;
+import de.tzr.search.SearchAnalytics;
+import de.tzr.search.SearchResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Public search entry point: normalizes the query, serves repeated queries from the result
+ * cache (no transaction is opened on a hit) and records query analytics.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchService {
+
+    private static final Set<String> OPERATORS = Set.of("AND", "OR", "NOT");
+
+    private final ArticleService articleService;
+    private final SearchResultCache resultCache;
+    private final SearchAnalytics analytics;
+
+    public PageResponse<ArticleListDTO> search(String query, Language lang, int page, int size) {
+        String normalized = normalize(query);
+        PageResponse<ArticleListDTO> result = resultCache.get(normalized, lang, page, size,
+            () -> articleService.search(normalized, lang, PageRequest.of(page, size)));
+        analytics.record(normalized, result.totalElements() == 0);
+        return result;
+    }
+
+    public SearchAnalyticsDTO getAnalytics(int limit) {
+        CacheStats stats = resultCache.stats();
+        return new SearchAnalyticsDTO(
+            analytics.totalQueries(), analytics.totalZeroResults(), analytics.untrackedQueries(),
+            stats.hitCount(), stats.missCount(), stats.evictionCount(), resultCache.size(),
+            analytics.topQueries(limit), analytics.topZeroResultQueries(limit));
+    }
+
+    /**
+     * Case and whitespace only, so syntax understood by the search engines keeps its meaning;
+     * the upper-case boolean operators are left as they are.
+     */
+    static String normalize(String query) {
+        return Arrays.stream(query.trim().split("\\s+"))
+            .map(word -> OPERATORS.contains(word) ? word : word.toLowerCase(Locale.ROOT))
+            .collect(Collectors.joining(" "));
+    }
+}
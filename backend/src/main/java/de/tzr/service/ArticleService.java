@@ -1,27 +1,52 @@
 package de.tzr.service;
 
 import de.tzr.dto.*;
+import de.tzr.event.ArticleChangedEvent;
 import de.tzr.exception.ResourceNotFoundException;
 import de.tzr.exception.SlugAlreadyExistsException;
+import de.tzr.exception.UnknownSlugException;
 import de.tzr.mapper.ArticleMapper;
 import de.tzr.model.*;
 import de.tzr.repository.*;
+import de.tzr.search.ArticleSearchEngine;
+import de.tzr.search.SearchHits;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ArticleService {
 
+    /** Articles loaded per list query while streaming the admin export. */
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final ArticleRepository articleRepository;
     private final CategoryRepository categoryRepository;
     private final AuthorRepository authorRepository;
@@ -30,74 +55,190 @@ public class ArticleService {
     private final ArticleMapper articleMapper;
     private final TranslationTaskService translationTaskService;
     private final AutoTranslationService autoTranslationService;
+    private final ArticleSearchEngine searchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleCountCache countCache;
+    private final ArticleDtoCache dtoCache;
+    private final SlugRegistry slugRegistry;
+    private final ReferenceDataRegistry referenceData;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Transactional(readOnly = true)
     public PageResponse<ArticleListDTO> getAllPublished(Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.findByStatus(ArticleStatus.PUBLISHED, pageable), lang);
+        return getPage(ArticleListFilter.NONE, ArticleFields.ALL, lang, pageable);
     }
 
     @Transactional(readOnly = true)
-    public ArticleDTO getBySlug(String slug, Language lang) {
-        Article article = articleRepository.findBySlug(slug)
-            .orElseThrow(() -> new ResourceNotFoundException("Article not found: " + slug));
-        return articleMapper.toDTO(article, lang);
+    public PageResponse<ArticleListDTO> getByCategory(String categorySlug, Language lang, Pageable pageable) {
+        return getPage(ArticleListFilter.category(categorySlug), ArticleFields.ALL, lang, pageable);
     }
 
     @Transactional(readOnly = true)
-    public ArticleDTO getFeatured(Language lang) {
-        Article article = articleRepository.findByFeaturedTrueAndStatus(ArticleStatus.PUBLISHED)
-            .orElseThrow(() -> new ResourceNotFoundException("No featured article found"));
-        return articleMapper.toDTO(article, lang);
+    public PageResponse<ArticleListDTO> getByAuthor(String authorSlug, Language lang, Pageable pageable) {
+        return getPage(ArticleListFilter.author(authorSlug), ArticleFields.ALL, lang, pageable);
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> search(String query, Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.search(ArticleStatus.PUBLISHED, query, pageable), lang);
+    public PageResponse<ArticleListDTO> getByTag(String tagSlug, Language lang, Pageable pageable) {
+        return getPage(ArticleListFilter.tag(tagSlug), ArticleFields.ALL, lang, pageable);
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> getByCategory(String categorySlug, Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.findByStatusAndCategorySlug(ArticleStatus.PUBLISHED, categorySlug, pageable), lang);
+    public PageResponse<ArticleListDTO> getAcademic(Language lang, Pageable pageable) {
+        return getPage(ArticleListFilter.ACADEMIC, ArticleFields.ALL, lang, pageable);
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> getByAuthor(String authorSlug, Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.findByStatusAndAuthorSlug(ArticleStatus.PUBLISHED, authorSlug, pageable), lang);
+    public PageResponse<ArticleListDTO> getByCategoryType(String type, Language lang, Pageable pageable) {
+        return getPage(ArticleListFilter.type(type), ArticleFields.ALL, lang, pageable);
     }
 
+    /**
+     * One page of published articles matching {@code filter}. Only the requested
+     * {@code fields} are selected and mapped; the others are left null.
+     */
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> getByTag(String tagSlug, Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.findByStatusAndTagSlug(ArticleStatus.PUBLISHED, tagSlug, pageable), lang);
+    public PageResponse<ArticleListDTO> getPage(ArticleListFilter filter, ArticleFields fields, Language lang, Pageable pageable) {
+        if (!knownSlugs(filter)) return toPageResponse(Page.empty(pageable));
+        return toListPage(findIds(filter, pageable), count(filter), fields, lang);
     }
 
+    /** Count-free variant of {@link #getPage}: reports whether a next page exists instead of totals. */
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> getAcademic(Language lang, Pageable pageable) {
-        return toPageResponse(articleRepository.findByStatusAndAcademic(ArticleStatus.PUBLISHED, true, pageable), lang);
+    public SliceResponse<ArticleListDTO> getSlice(ArticleListFilter filter, ArticleFields fields, Language lang, Pageable pageable) {
+        if (!knownSlugs(filter)) return toListSlice(new SliceImpl<>(List.of(), pageable, false), fields, lang);
+        return toListSlice(findIds(filter, pageable), fields, lang);
     }
 
+    /** Keyset-paginated variant of {@link #getPage}, newest first. */
     @Transactional(readOnly = true)
-    public PageResponse<ArticleListDTO> getByCategoryType(String type, Language lang, Pageable pageable) {
-        CategoryType categoryType = CategoryType.valueOf(type);
-        return toPageResponse(articleRepository.findByStatusAndCategoryType(ArticleStatus.PUBLISHED, categoryType, pageable), lang);
+    public CursorPageResponse<ArticleListDTO> getAfter(ArticleListFilter filter, ArticleFields fields,
+                                                       ArticleCursor after, Language lang, int size) {
+        if (!knownSlugs(filter)) return toCursorPage(List.of(), size, fields, lang);
+        return toCursorPage(findIdsAfter(filter, after, Limit.of(size + 1)), size, fields, lang);
+    }
+
+    /**
+     * Same pages as {@link #getPage}, in the normalized shape: each category, author and tag on
+     * the page is mapped once, without its translations.
+     */
+    @Transactional(readOnly = true)
+    public NormalizedPageResponse getNormalized(ArticleListFilter filter, Language lang, Pageable pageable) {
+        if (!knownSlugs(filter)) return toNormalizedPage(new SliceImpl<>(List.of(), pageable, false), 0, lang);
+        return toNormalizedPage(findIds(filter, pageable), count(filter), lang);
+    }
+
+    /**
+     * Served from the DTO cache. Concurrent misses for the same slug and language share one
+     * load, which runs in the cache's own read-only transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ArticleDTO getBySlug(String slug, Language lang) {
+        if (!slugRegistry.hasArticle(slug)) throw new UnknownSlugException("Article not found: " + slug);
+        return dtoCache.get(slug, lang, () -> {
+            Article article = articleRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found: " + slug));
+            return articleMapper.toPublicDTO(article, lang);
+        });
+    }
+
+    /**
+     * Published articles for {@code slugs}, in request order; unknown slugs are skipped. Cached
+     * DTOs are used as they are, the others are loaded with one IN query.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ArticleDTO> getBySlugs(List<String> slugs, Language lang) {
+        List<String> known = slugs.stream().distinct().filter(slugRegistry::hasArticle).toList();
+        if (known.isEmpty()) return List.of();
+        Map<String, ArticleDTO> found = dtoCache.getAll(known, lang, missing ->
+            articleRepository.findByStatusAndSlugIn(ArticleStatus.PUBLISHED, missing).stream()
+                .collect(Collectors.toMap(Article::getSlug, article -> articleMapper.toPublicDTO(article, lang))));
+        return known.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    /** All stored translations of a published article, bodies included. */
+    @Transactional(readOnly = true)
+    public List<ArticleTranslationDTO> getTranslations(String slug) {
+        if (!slugRegistry.hasArticle(slug)) throw new UnknownSlugException("Article not found: " + slug);
+        List<ArticleTranslationDTO> translations = articleTranslationRepository.findByArticleSlugOrderByLanguageAsc(slug).stream()
+            .map(articleMapper::toTranslationDTO)
+            .toList();
+        if (translations.isEmpty() && !articleRepository.existsBySlug(slug)) {
+            throw new ResourceNotFoundException("Article not found: " + slug);
+        }
+        return translations;
+    }
+
+    /** Served from the DTO cache like {@link #getBySlug}. */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ArticleDTO getFeatured(Language lang) {
+        return dtoCache.getFeatured(lang, () -> {
+            Article article = articleRepository.findByFeaturedTrueAndStatus(ArticleStatus.PUBLISHED)
+                .orElseThrow(() -> new ResourceNotFoundException("No featured article found"));
+            return articleMapper.toPublicDTO(article, lang);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ArticleListDTO> search(String query, Language lang, Pageable pageable) {
+        return toPageResponse(searchEngine.search(query, lang, pageable), lang, pageable);
+    }
+
+    private PageResponse<ArticleListDTO> toPageResponse(SearchHits hits, Language lang, Pageable pageable) {
+        List<ArticleListDTO> content = loadListItems(hits.articleIds(), ArticleFields.ALL, lang).stream()
+            .map(item -> item.withHighlight(hits.highlights().get(item.id())))
+            .toList();
+        return toPageResponse(new PageImpl<>(content, pageable, hits.totalHits()));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<ArticleListDTO> getRelated(String slug, Language lang, Pageable pageable) {
+        if (!slugRegistry.hasArticle(slug)) throw new UnknownSlugException("Article not found: " + slug);
         Article article = articleRepository.findBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException("Article not found: " + slug));
-        return toPageResponse(articleRepository.findRelated(
-            ArticleStatus.PUBLISHED, article.getCategory().getSlug(), article.getId(), pageable), lang);
+        return toListPage(articleRepository.findRelatedIds(
+            ArticleStatus.PUBLISHED, article.getCategory().getId(), article.getId(), pageable), lang);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<ArticleListDTO> getAllAdmin(Pageable pageable) {
-        return toPageResponse(articleRepository.findAll(pageable), Language.DEFAULT);
+        return toListPage(articleRepository.findIds(pageable),
+            countCache.get("all", null, articleRepository::count), ArticleFields.ALL, Language.DEFAULT);
     }
 
     @Transactional(readOnly = true)
     public PageResponse<ArticleListDTO> getByStatusAdmin(String status, Pageable pageable) {
         ArticleStatus articleStatus = ArticleStatus.valueOf(status);
-        return toPageResponse(articleRepository.findByStatus(articleStatus, pageable), Language.DEFAULT);
+        return toListPage(articleRepository.findIdsByStatus(articleStatus, pageable),
+            countCache.get("status", articleStatus, () -> articleRepository.countByStatus(articleStatus)), ArticleFields.ALL, Language.DEFAULT);
+    }
+
+    /**
+     * Every article (of {@code status}, if given), newest first, as list items handed to
+     * {@code sink}. Ids come off a cursor; each chunk is loaded like a list page and the
+     * persistence context is cleared after it, so the heap stays flat however many there are.
+     */
+    @Transactional(readOnly = true)
+    public void forEachAdmin(String status, Consumer<ArticleListDTO> sink) {
+        ArticleStatus articleStatus = status != null && !status.isBlank() ? ArticleStatus.valueOf(status) : null;
+        try (Stream<Long> ids = articleRepository.streamIdsNewestFirst(articleStatus)) {
+            List<Long> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            ids.forEach(id -> {
+                chunk.add(id);
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    writeChunk(chunk, sink);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) writeChunk(chunk, sink);
+        }
+    }
+
+    private void writeChunk(List<Long> ids, Consumer<ArticleListDTO> sink) {
+        loadListItems(ids, ArticleFields.ALL, Language.DEFAULT).forEach(sink);
+        entityManager.clear();
     }
 
     @Transactional(readOnly = true)
@@ -151,6 +292,7 @@ public class ArticleService {
         saveTranslations(article, dto.translations());
         translationTaskService.createTasksForEntity(TranslationTaskEntityType.ARTICLE, article.getId());
         autoTranslationService.translateArticle(article.getId(), Language.DEFAULT);
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
 
         return articleMapper.toDTO(article);
     }
@@ -198,6 +340,7 @@ public class ArticleService {
         article = articleRepository.save(article);
         saveTranslations(article, dto.translations());
         autoTranslationService.translateArticle(article.getId(), Language.DEFAULT);
+        eventPublisher.publishEvent(new ArticleChangedEvent(article.getId()));
 
         return articleMapper.toDTO(article);
     }
@@ -210,6 +353,7 @@ public class ArticleService {
             article.setPublishedDate(LocalDate.now());
         }
         articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(id));
     }
 
     public void toggleFeatured(Long id) {
@@ -220,10 +364,12 @@ public class ArticleService {
                 .ifPresent(current -> {
                     current.setFeatured(false);
                     articleRepository.save(current);
+                    eventPublisher.publishEvent(new ArticleChangedEvent(current.getId()));
                 });
         }
         article.setFeatured(!article.getFeatured());
         articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleChangedEvent(id));
     }
 
     public void delete(Long id, boolean hard) {
@@ -235,6 +381,7 @@ public class ArticleService {
             article.setStatus(ArticleStatus.ARCHIVED);
             articleRepository.save(article);
         }
+        eventPublisher.publishEvent(new ArticleChangedEvent(id));
     }
 
     private void saveTranslations(Article article, List<ArticleTranslationDTO> translations) {
@@ -259,10 +406,169 @@ public class ArticleService {
         }
     }
 
-    private PageResponse<ArticleListDTO> toPageResponse(Page<Article> page, Language lang) {
-        List<ArticleListDTO> content = page.getContent().stream()
-            .map(a -> articleMapper.toListDTO(a, lang)).toList();
-        return new PageResponse<>(content, page.getNumber(), page.getSize(),
+    /** Unknown category, author or tag slugs match nothing; no need to ask the database. */
+    private boolean knownSlugs(ArticleListFilter filter) {
+        if (filter.category() != null) return slugRegistry.hasCategory(filter.category());
+        if (filter.author() != null) return slugRegistry.hasAuthor(filter.author());
+        if (filter.tag() != null) return slugRegistry.hasTag(filter.tag());
+        return true;
+    }
+
+    private Slice<Long> findIds(ArticleListFilter filter, Pageable pageable) {
+        ArticleStatus published = ArticleStatus.PUBLISHED;
+        if (filter.category() != null) return articleRepository.findIdsByStatusAndCategorySlug(published, filter.category(), pageable);
+        if (filter.author() != null) return articleRepository.findIdsByStatusAndAuthorSlug(published, filter.author(), pageable);
+        if (filter.tag() != null) return articleRepository.findIdsByStatusAndTagSlug(published, filter.tag(), pageable);
+        if (filter.isAcademic()) return articleRepository.findIdsByStatusAndAcademic(published, true, pageable);
+        if (filter.type() != null) return articleRepository.findIdsByStatusAndCategoryType(published, filter.categoryType(), pageable);
+        return articleRepository.findIdsByStatus(published, pageable);
+    }
+
+    /**
+     * Dated articles after the cursor, then the undated ones; the second query only runs on the
+     * page where the dated articles run out.
+     */
+    private List<Long> findIdsAfter(ArticleListFilter filter, ArticleCursor after, Limit limit) {
+        List<Long> dated = after.publishedDate() != null ? findDatedIdsAfter(filter, after, limit) : List.of();
+        if (dated.size() == limit.max()) return dated;
+        Long undatedAfter = after.publishedDate() != null ? Long.MAX_VALUE : after.id();
+        List<Long> undated = findUndatedIdsAfter(filter, undatedAfter, Limit.of(limit.max() - dated.size()));
+        return Stream.concat(dated.stream(), undated.stream()).toList();
+    }
+
+    private List<Long> findUndatedIdsAfter(ArticleListFilter filter, Long id, Limit limit) {
+        ArticleStatus published = ArticleStatus.PUBLISHED;
+        if (filter.category() != null) return articleRepository.findUndatedIdsByStatusAndCategorySlugAfter(published, filter.category(), id, limit);
+        if (filter.author() != null) return articleRepository.findUndatedIdsByStatusAndAuthorSlugAfter(published, filter.author(), id, limit);
+        if (filter.tag() != null) return articleRepository.findUndatedIdsByStatusAndTagSlugAfter(published, filter.tag(), id, limit);
+        if (filter.isAcademic()) return articleRepository.findUndatedIdsByStatusAndAcademicAfter(published, true, id, limit);
+        if (filter.type() != null) return articleRepository.findUndatedIdsByStatusAndCategoryTypeAfter(published, filter.categoryType(), id, limit);
+        return articleRepository.findUndatedIdsByStatusAfter(published, id, limit);
+    }
+
+    private List<Long> findDatedIdsAfter(ArticleListFilter filter, ArticleCursor after, Limit limit) {
+        ArticleStatus published = ArticleStatus.PUBLISHED;
+        LocalDate date = after.publishedDate();
+        Long id = after.id();
+        if (filter.category() != null) return articleRepository.findIdsByStatusAndCategorySlugAfter(published, filter.category(), date, id, limit);
+        if (filter.author() != null) return articleRepository.findIdsByStatusAndAuthorSlugAfter(published, filter.author(), date, id, limit);
+        if (filter.tag() != null) return articleRepository.findIdsByStatusAndTagSlugAfter(published, filter.tag(), date, id, limit);
+        if (filter.isAcademic()) return articleRepository.findIdsByStatusAndAcademicAfter(published, true, date, id, limit);
+        if (filter.type() != null) return articleRepository.findIdsByStatusAndCategoryTypeAfter(published, filter.categoryType(), date, id, limit);
+        return articleRepository.findIdsByStatusAfter(published, date, id, limit);
+    }
+
+    private long count(ArticleListFilter filter) {
+        ArticleStatus published = ArticleStatus.PUBLISHED;
+        if (filter.category() != null) {
+            return countCache.get("category", filter.category(), () -> articleRepository.countByStatusAndCategorySlug(published, filter.category()));
+        }
+        if (filter.author() != null) {
+            return countCache.get("author", filter.author(), () -> articleRepository.countByStatusAndAuthorSlug(published, filter.author()));
+        }
+        if (filter.tag() != null) {
+            return countCache.get("tag", filter.tag(), () -> articleRepository.countByStatusAndTagsSlug(published, filter.tag()));
+        }
+        if (filter.isAcademic()) {
+            return countCache.get("academic", true, () -> articleRepository.countByStatusAndAcademic(published, true));
+        }
+        if (filter.type() != null) {
+            CategoryType categoryType = filter.categoryType();
+            return countCache.get("type", categoryType, () -> articleRepository.countByStatusAndCategoryType(published, categoryType));
+        }
+        return countCache.get("status", published, () -> articleRepository.countByStatus(published));
+    }
+
+    private PageResponse<ArticleListDTO> toListPage(Page<Long> ids, Language lang) {
+        return toListPage(ids, ids.getTotalElements(), ArticleFields.ALL, lang);
+    }
+
+    private PageResponse<ArticleListDTO> toListPage(Slice<Long> ids, long total, ArticleFields fields, Language lang) {
+        List<ArticleListDTO> content = loadListItems(ids.getContent(), fields, lang);
+        return toPageResponse(new PageImpl<>(content, ids.getPageable(), total));
+    }
+
+    private SliceResponse<ArticleListDTO> toListSlice(Slice<Long> ids, ArticleFields fields, Language lang) {
+        return new SliceResponse<>(loadListItems(ids.getContent(), fields, lang),
+            ids.getNumber(), ids.getSize(), ids.isFirst(), ids.hasNext());
+    }
+
+    /**
+     * {@code ids} holds up to size + 1 entries; the extra one only signals that a next page exists.
+     */
+    private CursorPageResponse<ArticleListDTO> toCursorPage(List<Long> ids, int size, ArticleFields fields, Language lang) {
+        boolean hasNext = ids.size() > size;
+        List<ArticleListDTO> content = loadListItems(hasNext ? ids.subList(0, size) : ids, fields, lang);
+        String nextCursor = null;
+        if (hasNext && !content.isEmpty()) {
+            ArticleListDTO last = content.get(content.size() - 1);
+            nextCursor = new ArticleCursor(last.publishedDate(), last.id()).encode();
+        }
+        return new CursorPageResponse<>(content, size, nextCursor);
+    }
+
+    private List<ArticleListDTO> loadListItems(List<Long> ids, ArticleFields fields, Language lang) {
+        ListParts parts = loadListParts(ids, fields, lang);
+        return parts.rows().stream()
+            .map(row -> articleMapper.toListDTO(row, parts.tagsOf(row.id()), lang))
+            .toList();
+    }
+
+    private NormalizedPageResponse toNormalizedPage(Slice<Long> ids, long total, Language lang) {
+        ListParts parts = loadListParts(ids.getContent(), ArticleFields.ALL, lang);
+        List<ArticleListRefDTO> content = parts.rows().stream()
+            .map(row -> articleMapper.toListRefDTO(row, parts.tagsOf(row.id()), lang))
+            .toList();
+        Map<Long, CategoryDTO> categories = new LinkedHashMap<>();
+        Map<Long, AuthorDTO> authors = new LinkedHashMap<>();
+        Map<Long, TagDTO> tags = new LinkedHashMap<>();
+        for (ArticleListRow row : parts.rows()) {
+            categories.computeIfAbsent(row.categoryId(), id -> referenceData.category(id, lang));
+            authors.computeIfAbsent(row.authorId(), id -> referenceData.author(id, lang));
+            parts.tagsOf(row.id()).forEach(tagId -> tags.computeIfAbsent(tagId, id -> referenceData.tag(id, lang)));
+        }
+
+        Page<ArticleListRefDTO> page = new PageImpl<>(content, ids.getPageable(), total);
+        return new NormalizedPageResponse(content, categories, authors, tags,
+            page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast());
+    }
+
+    /** Projection rows in {@code ids} order, plus their tag ids. */
+    private record ListParts(List<ArticleListRow> rows, Map<Long, Set<Long>> tags) {
+        Set<Long> tagsOf(Long articleId) {
+            return tags.getOrDefault(articleId, Set.of());
+        }
+    }
+
+    /**
+     * Loads a list page in two statements, whatever the page size, without reading any article
+     * or translation body: the projection rows for {@code lang} and the tag ids. Categories,
+     * authors and tags are resolved from the reference data snapshot. A sparse fieldset narrows
+     * the projection and skips the tag statement unless tags are requested.
+     */
+    private ListParts loadListParts(List<Long> ids, ArticleFields fields, Language lang) {
+        if (ids.isEmpty()) return new ListParts(List.of(), Map.of());
+        List<ArticleListRow> loaded = fields.isAll()
+            ? articleRepository.findListRowsByIdIn(ids, lang)
+            : articleRepository.findSparseListRowsByIdIn(ids, lang, fields.names());
+        Map<Long, ArticleListRow> rows = loaded.stream()
+            .collect(Collectors.toMap(ArticleListRow::id, Function.identity()));
+        Map<Long, Set<Long>> tags = new HashMap<>();
+        if (fields.includes("tags")) {
+            for (Object[] pair : articleRepository.findTagIdsByArticleIdIn(ids)) {
+                tags.computeIfAbsent((Long) pair[0], id -> new LinkedHashSet<>()).add((Long) pair[1]);
+            }
+        }
+
+        List<ArticleListRow> ordered = ids.stream()
+            .map(rows::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new ListParts(ordered, tags);
+    }
+
+    private <T> PageResponse<T> toPageResponse(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
             page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast());
     }
 }
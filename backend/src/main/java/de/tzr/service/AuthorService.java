@@ -3,14 +3,17 @@ package de.tzr.service;
 import de.tzr.dto.AuthorCreateDTO;
 import de.tzr.dto.AuthorDTO;
 import de.tzr.dto.AuthorTranslationDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
 import de.tzr.exception.ResourceNotFoundException;
 import de.tzr.exception.SlugAlreadyExistsException;
+import de.tzr.exception.UnknownSlugException;
 import de.tzr.mapper.AuthorMapper;
 import de.tzr.model.*;
 import de.tzr.repository.ArticleRepository;
 import de.tzr.repository.AuthorRepository;
 import de.tzr.repository.AuthorTranslationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,8 @@ public class AuthorService {
     private final AuthorMapper authorMapper;
     private final TranslationTaskService translationTaskService;
     private final AutoTranslationService autoTranslationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlugRegistry slugRegistry;
 
     @Transactional(readOnly = true)
     public List<AuthorDTO> getAll() {
@@ -46,6 +51,7 @@ public class AuthorService {
 
     @Transactional(readOnly = true)
     public AuthorDTO getBySlug(String slug, Language lang) {
+        if (!slugRegistry.hasAuthor(slug)) throw new UnknownSlugException("Author not found: " + slug);
         Author author = authorRepository.findBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException("Author not found: " + slug));
         return authorMapper.toDTO(author, (int) articleRepository.countByAuthorId(author.getId()), lang);
@@ -69,6 +75,7 @@ public class AuthorService {
         saveTranslations(author, dto.translations());
         translationTaskService.createTasksForEntity(TranslationTaskEntityType.AUTHOR, author.getId());
         autoTranslationService.translateAuthor(author.getId(), Language.DEFAULT);
+        publishChanged(author.getId());
         return authorMapper.toDTO(author);
     }
 
@@ -90,6 +97,7 @@ public class AuthorService {
         author = authorRepository.save(author);
         saveTranslations(author, dto.translations());
         autoTranslationService.translateAuthor(author.getId(), Language.DEFAULT);
+        publishChanged(author.getId());
         return authorMapper.toDTO(author);
     }
 
@@ -102,6 +110,7 @@ public class AuthorService {
                 "Autor kann nicht gelöscht werden: Es existieren noch " + count + " Beiträge dieses Autors.");
         }
         authorRepository.delete(author);
+        publishChanged(id);
     }
 
     private void saveTranslations(Author author, List<AuthorTranslationDTO> translations) {
@@ -120,4 +129,8 @@ public class AuthorService {
             authorTranslationRepository.save(t);
         }
     }
+
+    private void publishChanged(Long id) {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.AUTHOR, id));
+    }
 }
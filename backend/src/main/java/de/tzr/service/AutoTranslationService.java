@@ -1,10 +1,13 @@
 package de.tzr.service;
 
 import de.tzr.config.TranslationProperties;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
 import de.tzr.model.*;
 import de.tzr.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +31,7 @@ public class AutoTranslationService {
     private final AuthorTranslationRepository authorTranslationRepository;
     private final TagTranslationRepository tagTranslationRepository;
     private final TranslationTaskRepository translationTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Async
     public void translateArticle(Long articleId, Language sourceLang) {
@@ -81,6 +85,7 @@ public class AutoTranslationService {
 
         articleTranslationRepository.save(translation);
         markTaskDone(TranslationTaskEntityType.ARTICLE, articleId, targetLang);
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
         log.info("Auto-translated article {} to {}", articleId, targetLang);
     }
 
@@ -126,6 +131,7 @@ public class AutoTranslationService {
 
         categoryTranslationRepository.save(translation);
         markTaskDone(TranslationTaskEntityType.CATEGORY, categoryId, targetLang);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, categoryId));
         log.info("Auto-translated category {} to {}", categoryId, targetLang);
     }
 
@@ -164,6 +170,7 @@ public class AutoTranslationService {
 
         authorTranslationRepository.save(translation);
         markTaskDone(TranslationTaskEntityType.AUTHOR, authorId, targetLang);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.AUTHOR, authorId));
         log.info("Auto-translated author {} to {}", authorId, targetLang);
     }
 
@@ -206,6 +213,7 @@ public class AutoTranslationService {
 
         tagTranslationRepository.save(translation);
         markTaskDone(TranslationTaskEntityType.TAG, tagId, targetLang);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.TAG, tagId));
         log.info("Auto-translated tag {} to {}", tagId, targetLang);
     }
 
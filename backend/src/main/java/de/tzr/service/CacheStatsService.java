@@ -0,0 +1,46 @@
+package de.tzr.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import de.tzr.config.ResponseBytesCache;
+import de.tzr.dto.CacheStatsDTO;
+import de.tzr.search.SearchResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hit, miss and eviction counters of the in-process caches since startup, including each
+ * Hibernate second-level cache region (prefixed {@code hibernate:}).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final ArticleDtoCache articleDtoCache;
+    private final ArticleCountCache articleCountCache;
+    private final SearchResultCache searchResultCache;
+    private final ResponseBytesCache responseBytesCache;
+    private final CacheManager hibernateCacheManager;
+
+    public List<CacheStatsDTO> getAll() {
+        List<CacheStatsDTO> all = new ArrayList<>(List.of(
+            toDTO("articles", articleDtoCache.stats(), articleDtoCache.size()),
+            toDTO("article-counts", articleCountCache.stats(), articleCountCache.size()),
+            toDTO("search-results", searchResultCache.stats(), searchResultCache.size()),
+            toDTO("responses", responseBytesCache.stats(), responseBytesCache.size())));
+        for (String region : hibernateCacheManager.getCacheNames()) {
+            Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+            all.add(toDTO("hibernate:" + region, cache.stats(), cache.estimatedSize()));
+        }
+        return all;
+    }
+
+    private static CacheStatsDTO toDTO(String name, CacheStats stats, long size) {
+        return new CacheStatsDTO(name, size, stats.hitCount(), stats.missCount(),
+            stats.hitRate(), stats.evictionCount());
+    }
+}
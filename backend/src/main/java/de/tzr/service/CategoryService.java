@@ -3,14 +3,17 @@ package de.tzr.service;
 import de.tzr.dto.CategoryCreateDTO;
 import de.tzr.dto.CategoryDTO;
 import de.tzr.dto.CategoryTranslationDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
 import de.tzr.exception.ResourceNotFoundException;
 import de.tzr.exception.SlugAlreadyExistsException;
+import de.tzr.exception.UnknownSlugException;
 import de.tzr.mapper.CategoryMapper;
 import de.tzr.model.*;
 import de.tzr.repository.ArticleRepository;
 import de.tzr.repository.CategoryRepository;
 import de.tzr.repository.CategoryTranslationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,8 @@ public class CategoryService {
     private final CategoryMapper categoryMapper;
     private final TranslationTaskService translationTaskService;
     private final AutoTranslationService autoTranslationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlugRegistry slugRegistry;
 
     @Transactional(readOnly = true)
     public List<CategoryDTO> getAll() {
@@ -51,6 +56,7 @@ public class CategoryService {
 
     @Transactional(readOnly = true)
     public CategoryDTO getBySlug(String slug, Language lang) {
+        if (!slugRegistry.hasCategory(slug)) throw new UnknownSlugException("Category not found: " + slug);
         Category category = categoryRepository.findBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException("Category not found: " + slug));
         return categoryMapper.toDTO(category, (int) articleRepository.countByCategoryId(category.getId()), lang);
@@ -74,6 +80,7 @@ public class CategoryService {
         saveTranslations(category, dto.translations());
         translationTaskService.createTasksForEntity(TranslationTaskEntityType.CATEGORY, category.getId());
         autoTranslationService.translateCategory(category.getId(), Language.DEFAULT);
+        publishChanged(category.getId());
         return categoryMapper.toDTO(category);
     }
 
@@ -99,6 +106,7 @@ public class CategoryService {
         category = categoryRepository.save(category);
         saveTranslations(category, dto.translations());
         autoTranslationService.translateCategory(category.getId(), Language.DEFAULT);
+        publishChanged(category.getId());
         return categoryMapper.toDTO(category);
     }
 
@@ -111,6 +119,7 @@ public class CategoryService {
                 "Kategorie kann nicht gelöscht werden: Es existieren noch " + count + " Beiträge in dieser Kategorie.");
         }
         categoryRepository.delete(category);
+        publishChanged(id);
     }
 
     public void reorder(List<Long> orderedIds) {
@@ -120,6 +129,14 @@ public class CategoryService {
             category.setSortOrder(i);
             categoryRepository.save(category);
         }
+        // one event for the whole order, so listeners rebuild once
+        if (!orderedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, List.copyOf(orderedIds)));
+        }
+    }
+
+    private void publishChanged(Long id) {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, id));
     }
 
     private void saveTranslations(Category category, List<CategoryTranslationDTO> translations) {
@@ -0,0 +1,159 @@
+package de.tzr.service;
+
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.ArticleStatus;
+import de.tzr.model.TranslationTaskEntityType;
+import de.tzr.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Validators for the public API, readable without a query. The global revision moves on every
+ * article, category, author, tag or translation write and covers every public response; a
+ * published article additionally has its own version, so its page keeps validating across
+ * writes to other articles. Revisions are seeded from the boot time, so validators handed out
+ * before a restart never match afterwards.
+ * <p>
+ * The listeners run after the caches have been invalidated (those are ordered just before
+ * {@link Ordered#LOWEST_PRECEDENCE}): a new validator must never be paired with a response
+ * still served from a stale cache entry, and the proxy must not refetch one on a purge.
+ */
+@Component
+@Slf4j
+public class ContentRevision {
+
+    /** An ETag value (without quotes) and a Last-Modified time in epoch millis. */
+    public record Validator(String etag, long lastModified) {}
+
+    private record Version(long revision, Instant modifiedAt) {
+        static Version now(long revision) {
+            return new Version(revision, Instant.now());
+        }
+    }
+
+    private final ArticleRepository articleRepository;
+    private final EdgeCachePurger edgeCachePurger;
+    private final TransactionTemplate readOnlyTx;
+
+    private final AtomicLong revision = new AtomicLong(System.currentTimeMillis());
+    private volatile Version global = new Version(revision.get(), Instant.now());
+    private volatile Version referenceData = global;
+    private final Map<String, Version> articlesBySlug = new ConcurrentHashMap<>();
+    private final Map<Long, String> articleSlugs = new HashMap<>();
+
+    public ContentRevision(ArticleRepository articleRepository, EdgeCachePurger edgeCachePurger,
+                           PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.edgeCachePurger = edgeCachePurger;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public Validator global() {
+        Version current = global;
+        return new Validator("r" + current.revision(), current.modifiedAt().toEpochMilli());
+    }
+
+    /**
+     * The article's own version combined with the reference data it embeds; empty for slugs
+     * that are not published articles, which are left to the service layer to reject.
+     */
+    public Optional<Validator> article(String slug) {
+        Version article = articlesBySlug.get(slug);
+        if (article == null) return Optional.empty();
+        Version reference = referenceData;
+        Instant modifiedAt = article.modifiedAt().isAfter(reference.modifiedAt()) ? article.modifiedAt() : reference.modifiedAt();
+        return Optional.of(new Validator("a" + article.revision() + "-" + reference.revision(), modifiedAt.toEpochMilli()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long boot = revision.get();
+        readOnlyTx.executeWithoutResult(status -> {
+            for (Object[] row : articleRepository.findVersionsByStatus(ArticleStatus.PUBLISHED)) {
+                putArticle((Long) row[0], (String) row[1], new Version(boot, toInstant((LocalDateTime) row[2])));
+            }
+        });
+        log.info("Content revision {} with {} article versions", boot, articlesBySlug.size());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        Set<String> affected = new HashSet<>();
+        advance(updateArticle(event.articleId(), affected), false);
+        edgeCachePurger.purgeArticle(affected);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.entityType() == TranslationTaskEntityType.ARTICLE) {
+            Set<String> affected = new HashSet<>();
+            event.entityIds().forEach(id -> advance(updateArticle(id, affected), false));
+            edgeCachePurger.purgeArticle(affected);
+        } else {
+            advance(Version.now(revision.incrementAndGet()), true);
+        }
+    }
+
+    /**
+     * Moves the article's version and adds its old and new slug to {@code affected}. The caller
+     * purges those only after {@link #advance}: the proxy's refresh must not be answered with
+     * the bytes cached under the old global revision.
+     */
+    private Version updateArticle(Long id, Set<String> affected) {
+        Version version = Version.now(revision.incrementAndGet());
+        Optional<String> slug = articleRepository.findSlugByIdAndStatus(id, ArticleStatus.PUBLISHED);
+        String previous = slug.isPresent() ? putArticle(id, slug.get(), version) : removeArticle(id);
+        slug.ifPresent(affected::add);
+        if (previous != null) affected.add(previous);
+        return version;
+    }
+
+    /** Listeners for concurrent commits may finish out of order; never move back. */
+    private synchronized void advance(Version version, boolean referenceDataChanged) {
+        if (version.revision() > global.revision()) global = version;
+        if (referenceDataChanged && version.revision() > referenceData.revision()) referenceData = version;
+    }
+
+    private synchronized String putArticle(Long id, String slug, Version version) {
+        String previous = articleSlugs.put(id, slug);
+        if (previous != null && !previous.equals(slug)) articlesBySlug.remove(previous);
+        articlesBySlug.put(slug, version);
+        return previous;
+    }
+
+    private synchronized String removeArticle(Long id) {
+        String previous = articleSlugs.remove(id);
+        if (previous != null) articlesBySlug.remove(previous);
+        return previous;
+    }
+
+    private static Instant toInstant(LocalDateTime updatedAt) {
+        return updatedAt == null ? Instant.now() : updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
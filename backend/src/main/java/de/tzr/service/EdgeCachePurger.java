@@ -0,0 +1,78 @@
+package de.tzr.service;
+
+import de.tzr.config.CacheProperties;
+import de.tzr.model.Language;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Refreshes the reverse proxy's copies of the pages an article change affects: the article
+ * under its old and new slug, the featured article and the homepage, in every language. Each
+ * URL is requested through the proxy's refresh listener, which bypasses and rewrites the cache
+ * entry (see infra/nginx-tzr.conf); an article that is gone leaves a cached 404 behind. Lists
+ * are not purged, they expire after the list TTL.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EdgeCachePurger {
+
+    private final CacheProperties cacheProperties;
+    private final RestTemplate restTemplate;
+
+    @Async
+    public void purgeArticle(Collection<String> slugs) {
+        String base = cacheProperties.getEdge().getPurgeUrl();
+        List<String> paths = paths(slugs);
+        if (base == null || base.isBlank()) {
+            log.debug("Edge purge disabled, would refresh {}", paths);
+            return;
+        }
+        for (String path : paths) {
+            try {
+                // the proxy keeps an identity and a gzip variant of each URL
+                restTemplate.execute(base + path, HttpMethod.GET, null, response -> null);
+                restTemplate.execute(base + path, HttpMethod.GET,
+                    request -> request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip"), response -> null);
+            } catch (HttpStatusCodeException e) {
+                log.debug("Edge refresh of {} answered {}", path, e.getStatusCode());
+            } catch (RestClientException e) {
+                log.warn("Edge refresh of {} failed: {}", path, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /** Without {@code lang} and with each language, as the frontend requests them. */
+    static List<String> paths(Collection<String> slugs) {
+        List<String> pages = new ArrayList<>();
+        for (String slug : slugs) {
+            pages.add("/api/public/articles/" + slug);
+            pages.add("/api/public/articles/" + slug + "/translations");
+        }
+        pages.add("/api/public/articles/featured");
+        pages.add("/api/public/pages/home");
+
+        List<String> paths = new ArrayList<>();
+        for (String page : pages) {
+            paths.add(page);
+            if (page.endsWith("/translations")) continue;
+            for (Language lang : Language.values()) {
+                paths.add(page + "?lang=" + lang.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        return paths;
+    }
+}
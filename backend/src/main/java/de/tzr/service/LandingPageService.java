@@ -0,0 +1,160 @@
+package de.tzr.service;
+
+import de.tzr.dto.ArticleDTO;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.AuthorDTO;
+import de.tzr.dto.AuthorLandingDTO;
+import de.tzr.dto.CategoryDTO;
+import de.tzr.dto.CategoryLandingDTO;
+import de.tzr.dto.HomePageDTO;
+import de.tzr.dto.PageResponse;
+import de.tzr.config.PageProperties;
+import de.tzr.exception.ResourceNotFoundException;
+import de.tzr.exception.ServiceUnavailableException;
+import de.tzr.model.Language;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Composite landing pages. The parts are independent service calls, each with its own
+ * transaction, so they are forked onto virtual threads and joined before the method returns:
+ * the first failure cancels the remaining parts and is rethrown as it was thrown, so an
+ * unknown slug still ends in a 404. Every running part holds a pooled connection, so parts
+ * share a fixed number of permits ({@link PageProperties#getMaxConcurrentParts()}) across all
+ * requests instead of taking four connections per homepage render.
+ */
+@Service
+public class LandingPageService {
+
+    private final ArticleService articleService;
+    private final CategoryService categoryService;
+    private final AuthorService authorService;
+    private final Semaphore permits;
+
+    public LandingPageService(ArticleService articleService, CategoryService categoryService,
+                              AuthorService authorService, PageProperties properties) {
+        this.articleService = articleService;
+        this.categoryService = categoryService;
+        this.authorService = authorService;
+        this.permits = new Semaphore(properties.getMaxConcurrentParts(), true);
+    }
+
+    public HomePageDTO getHome(Language lang, Pageable latest, Pageable academic) {
+        try (Scope scope = new Scope(permits)) {
+            Future<ArticleDTO> featured = scope.fork(() -> featuredOrNull(lang));
+            Future<PageResponse<ArticleListDTO>> latestPage = scope.fork(() -> articleService.getAllPublished(lang, latest));
+            Future<List<CategoryDTO>> categories = scope.fork(() -> categoryService.getAll(lang));
+            Future<PageResponse<ArticleListDTO>> academicPage = scope.fork(() -> articleService.getAcademic(lang, academic));
+            return new HomePageDTO(scope.join(featured), scope.join(latestPage), scope.join(categories), scope.join(academicPage));
+        }
+    }
+
+    public CategoryLandingDTO getCategory(String slug, Language lang, Pageable pageable) {
+        try (Scope scope = new Scope(permits)) {
+            Future<CategoryDTO> category = scope.fork(() -> categoryService.getBySlug(slug, lang));
+            Future<PageResponse<ArticleListDTO>> articles = scope.fork(() -> articleService.getByCategory(slug, lang, pageable));
+            return new CategoryLandingDTO(scope.join(category), scope.join(articles));
+        }
+    }
+
+    public AuthorLandingDTO getAuthor(String slug, Language lang, Pageable pageable) {
+        try (Scope scope = new Scope(permits)) {
+            Future<AuthorDTO> author = scope.fork(() -> authorService.getBySlug(slug, lang));
+            Future<PageResponse<ArticleListDTO>> articles = scope.fork(() -> articleService.getByAuthor(slug, lang, pageable));
+            return new AuthorLandingDTO(scope.join(author), scope.join(articles));
+        }
+    }
+
+    private ArticleDTO featuredOrNull(Language lang) {
+        try {
+            return articleService.getFeatured(lang);
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One virtual thread per part, confined to a try-with-resources block: the first part to
+     * fail cancels every other part at once, joins then rethrow that failure whatever order
+     * they run in, and closing waits for every part. A stand-in for
+     * {@code StructuredTaskScope.ShutdownOnFailure}, which is still a preview API on Java 21.
+     */
+    static final class Scope implements AutoCloseable {
+
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final Semaphore permits;
+        private final List<Future<?>> parts = new ArrayList<>();
+        private Throwable failure;
+
+        Scope(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        <T> Future<T> fork(Callable<T> task) {
+            Future<T> part = executor.submit(() -> run(task));
+            synchronized (this) {
+                parts.add(part);
+                if (failure != null) part.cancel(true);
+            }
+            return part;
+        }
+
+        <T> T join(Future<T> part) {
+            try {
+                return part.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new ServiceUnavailableException("Interrupted while assembling the page");
+            } catch (ExecutionException | CancellationException e) {
+                Throwable cause = failure();
+                if (cause == null) cause = e instanceof ExecutionException ? e.getCause() : e;
+                if (cause instanceof RuntimeException runtime) throw runtime;
+                if (cause instanceof Error error) throw error;
+                throw new CompletionException(cause);
+            }
+        }
+
+        @Override
+        public void close() {
+            executor.close();
+        }
+
+        private <T> T run(Callable<T> task) throws Exception {
+            permits.acquire();
+            try {
+                return task.call();
+            } catch (Throwable t) {
+                fail(t);
+                throw t;
+            } finally {
+                permits.release();
+            }
+        }
+
+        private synchronized void fail(Throwable t) {
+            if (failure != null) return;
+            failure = t;
+            parts.forEach(part -> part.cancel(true));
+        }
+
+        private synchronized void cancelAll() {
+            parts.forEach(part -> part.cancel(true));
+        }
+
+        private synchronized Throwable failure() {
+            return failure;
+        }
+    }
+}
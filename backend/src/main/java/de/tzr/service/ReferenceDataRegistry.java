@@ -0,0 +1,184 @@
+package de.tzr.service;
+
+import de.tzr.dto.AuthorDTO;
+import de.tzr.dto.CategoryDTO;
+import de.tzr.dto.TagDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.mapper.AuthorMapper;
+import de.tzr.mapper.CategoryMapper;
+import de.tzr.mapper.TagMapper;
+import de.tzr.model.Author;
+import de.tzr.model.Category;
+import de.tzr.model.Language;
+import de.tzr.model.Tag;
+import de.tzr.model.TranslationTaskEntityType;
+import de.tzr.repository.AuthorRepository;
+import de.tzr.repository.CategoryRepository;
+import de.tzr.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * All categories, authors and tags as DTOs already resolved to each language, so articles are
+ * mapped without touching their reference-data proxies or translation maps. The snapshot is
+ * immutable and rebuilt as a whole after every category, author or tag write, then swapped in;
+ * readers see either the old or the new one, never a mix.
+ * <p>
+ * An id the snapshot does not know yet (not loaded, or written after the last rebuild) is
+ * loaded from the database on its own, in the caller's transaction if there is one. Once
+ * loaded, the result is kept with the snapshot, so found and missing ids alike are read once
+ * until the next rebuild drops them.
+ */
+@Component
+@Slf4j
+public class ReferenceDataRegistry {
+
+    /** One language's view; the "full" forms carry the translations list, as the admin sees them. */
+    private record Resolved(Map<Long, CategoryDTO> categories, Map<Long, CategoryDTO> fullCategories,
+                            Map<Long, AuthorDTO> authors, Map<Long, AuthorDTO> fullAuthors,
+                            Map<Long, TagDTO> tags) {}
+
+    /** All languages, plus the ids looked up since the rebuild that it did not include. */
+    private record Snapshot(Map<Language, Resolved> resolved, Map<Miss, Optional<Object>> misses) {}
+
+    private record Miss(String view, Long id, Language lang) {}
+
+    private final CategoryRepository categoryRepository;
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+    private final CategoryMapper categoryMapper;
+    private final AuthorMapper authorMapper;
+    private final TagMapper tagMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    /** Null until loaded. */
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataRegistry(CategoryRepository categoryRepository, AuthorRepository authorRepository,
+                                 TagRepository tagRepository, CategoryMapper categoryMapper,
+                                 AuthorMapper authorMapper, TagMapper tagMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+        this.categoryMapper = categoryMapper;
+        this.authorMapper = authorMapper;
+        this.tagMapper = tagMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /** Resolved to {@code lang}, without translations; null for a null or unknown id. */
+    public CategoryDTO category(Long id, Language lang) {
+        return lookup(id, lang, "categories", Resolved::categories, categoryRepository::findWithTranslationsByIdIn,
+            c -> categoryMapper.toResolvedDTO(c, lang));
+    }
+
+    /** Resolved to {@code lang}, with all translations. */
+    public CategoryDTO categoryWithTranslations(Long id, Language lang) {
+        return lookup(id, lang, "fullCategories", Resolved::fullCategories, categoryRepository::findWithTranslationsByIdIn,
+            c -> categoryMapper.toDTO(c, 0, lang));
+    }
+
+    public AuthorDTO author(Long id, Language lang) {
+        return lookup(id, lang, "authors", Resolved::authors, authorRepository::findWithTranslationsByIdIn,
+            a -> authorMapper.toResolvedDTO(a, lang));
+    }
+
+    public AuthorDTO authorWithTranslations(Long id, Language lang) {
+        return lookup(id, lang, "fullAuthors", Resolved::fullAuthors, authorRepository::findWithTranslationsByIdIn,
+            a -> authorMapper.toDTO(a, 0, lang));
+    }
+
+    public TagDTO tag(Long id, Language lang) {
+        return lookup(id, lang, "tags", Resolved::tags, tagRepository::findWithTranslationsByIdIn,
+            t -> tagMapper.toResolvedDTO(t, lang));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        readOnlyTx.executeWithoutResult(status -> rebuild());
+        Resolved any = snapshot.resolved().get(Language.DEFAULT);
+        log.info("Reference data snapshot loaded with {} categories, {} authors, {} tags",
+            any.categories().size(), any.authors().size(), any.tags().size());
+    }
+
+    /** Before the caches are invalidated, so articles mapped again see the new snapshot. */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.entityType() == TranslationTaskEntityType.ARTICLE || snapshot == null) return;
+        rebuild();
+    }
+
+    /**
+     * Serialized, so of two concurrent rebuilds the one swapped in last has also read last and
+     * sees both commits.
+     */
+    private synchronized void rebuild() {
+        List<Category> categories = categoryRepository.findAllWithTranslations();
+        List<Author> authors = authorRepository.findAllWithTranslations();
+        List<Tag> tags = tagRepository.findAllWithTranslations();
+
+        Map<Language, Resolved> resolved = new EnumMap<>(Language.class);
+        for (Language lang : Language.values()) {
+            resolved.put(lang, new Resolved(
+                index(categories, Category::getId, c -> categoryMapper.toResolvedDTO(c, lang)),
+                index(categories, Category::getId, c -> categoryMapper.toDTO(c, 0, lang)),
+                index(authors, Author::getId, a -> authorMapper.toResolvedDTO(a, lang)),
+                index(authors, Author::getId, a -> authorMapper.toDTO(a, 0, lang)),
+                index(tags, Tag::getId, t -> tagMapper.toResolvedDTO(t, lang))));
+        }
+        snapshot = new Snapshot(Map.copyOf(resolved), new ConcurrentHashMap<>());
+    }
+
+    /**
+     * A miss is kept with the snapshot it was looked up in: if a rebuild swapped in a newer one
+     * meanwhile, the result goes with the old snapshot and is never read again.
+     */
+    @SuppressWarnings("unchecked")
+    private <E, D> D lookup(Long id, Language lang, String viewName, Function<Resolved, Map<Long, D>> view,
+                            Function<Collection<Long>, List<E>> loader, Function<E, D> mapper) {
+        if (id == null) return null;
+        Snapshot current = snapshot;
+        if (current == null) return load(id, loader, mapper);
+        D dto = view.apply(current.resolved().get(lang)).get(id);
+        if (dto != null) return dto;
+
+        Miss miss = new Miss(viewName, id, lang);
+        Optional<Object> known = current.misses().get(miss);
+        if (known == null) {
+            known = Optional.ofNullable(load(id, loader, mapper));
+            current.misses().putIfAbsent(miss, known);
+        }
+        return (D) known.orElse(null);
+    }
+
+    private <E, D> D load(Long id, Function<Collection<Long>, List<E>> loader, Function<E, D> mapper) {
+        return readOnlyTx.execute(status -> loader.apply(Set.of(id)).stream().findFirst().map(mapper).orElse(null));
+    }
+
+    private static <E, D> Map<Long, D> index(List<E> entities, Function<E, Long> id, Function<E, D> mapper) {
+        return entities.stream().collect(Collectors.toUnmodifiableMap(id, mapper));
+    }
+}
@@ -0,0 +1,169 @@
+package de.tzr.service;
+
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.ArticleStatus;
+import de.tzr.model.Author;
+import de.tzr.model.Category;
+import de.tzr.model.Tag;
+import de.tzr.model.TranslationTaskEntityType;
+import de.tzr.repository.ArticleRepository;
+import de.tzr.repository.AuthorRepository;
+import de.tzr.repository.CategoryRepository;
+import de.tzr.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exact in-memory sets of the published article slugs and of all category, author and tag
+ * slugs, so public lookups of slugs that do not exist are answered without touching the
+ * database. Loaded at startup and patched per changed entity; until loaded, every slug is
+ * reported as known. Changes that arrive while loading are read again once the load is in, so
+ * the snapshot being built never overwrites them.
+ */
+@Component
+@Slf4j
+public class SlugRegistry {
+
+    private final ArticleRepository articleRepository;
+    private final CategoryRepository categoryRepository;
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final Slugs articles = new Slugs();
+    private final Slugs categories = new Slugs();
+    private final Slugs authors = new Slugs();
+    private final Slugs tags = new Slugs();
+    /** Guarded by {@code this}, like the switch of {@link #loaded}. */
+    private final Set<Change> changedWhileLoading = new HashSet<>();
+    private volatile boolean loaded;
+
+    private record Change(TranslationTaskEntityType type, Long id) {}
+
+    public SlugRegistry(ArticleRepository articleRepository, CategoryRepository categoryRepository,
+                        AuthorRepository authorRepository, TagRepository tagRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.categoryRepository = categoryRepository;
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public boolean hasArticle(String slug) {
+        return !loaded || articles.contains(slug);
+    }
+
+    public boolean hasCategory(String slug) {
+        return !loaded || categories.contains(slug);
+    }
+
+    public boolean hasAuthor(String slug) {
+        return !loaded || authors.contains(slug);
+    }
+
+    public boolean hasTag(String slug) {
+        return !loaded || tags.contains(slug);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        readOnlyTx.executeWithoutResult(status -> {
+            for (Object[] pair : articleRepository.findSlugsByStatus(ArticleStatus.PUBLISHED)) {
+                articles.put((Long) pair[0], (String) pair[1]);
+            }
+            categoryRepository.findAll().forEach(c -> categories.put(c.getId(), c.getSlug()));
+            authorRepository.findAll().forEach(a -> authors.put(a.getId(), a.getSlug()));
+            tagRepository.findAll().forEach(t -> tags.put(t.getId(), t.getSlug()));
+        });
+        Set<Change> replay;
+        synchronized (this) {
+            loaded = true;
+            replay = Set.copyOf(changedWhileLoading);
+            changedWhileLoading.clear();
+        }
+        if (!replay.isEmpty()) {
+            readOnlyTx.executeWithoutResult(status -> replay.forEach(c -> refresh(c.type(), c.id())));
+        }
+        log.info("Slug registry loaded with {} articles, {} categories, {} authors, {} tags",
+            articles.size(), categories.size(), authors.size(), tags.size());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        changed(TranslationTaskEntityType.ARTICLE, event.articleId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        event.entityIds().forEach(id -> changed(event.entityType(), id));
+    }
+
+    private void changed(TranslationTaskEntityType type, Long id) {
+        synchronized (this) {
+            if (!loaded) changedWhileLoading.add(new Change(type, id));
+        }
+        refresh(type, id);
+    }
+
+    private void refresh(TranslationTaskEntityType type, Long id) {
+        switch (type) {
+            case ARTICLE -> articles.update(id, articleRepository.findSlugByIdAndStatus(id, ArticleStatus.PUBLISHED));
+            case CATEGORY -> categories.update(id, categoryRepository.findById(id).map(Category::getSlug));
+            case AUTHOR -> authors.update(id, authorRepository.findById(id).map(Author::getSlug));
+            case TAG -> tags.update(id, tagRepository.findById(id).map(Tag::getSlug));
+        }
+    }
+
+    /** Slugs by entity id, so a renamed or removed entity releases its old slug. */
+    private static final class Slugs {
+
+        private final Map<Long, String> byId = new HashMap<>();
+        private final Set<String> slugs = ConcurrentHashMap.newKeySet();
+
+        boolean contains(String slug) {
+            return slugs.contains(slug);
+        }
+
+        int size() {
+            return slugs.size();
+        }
+
+        synchronized void put(Long id, String slug) {
+            String previous = byId.put(id, slug);
+            if (previous != null && !previous.equals(slug)) slugs.remove(previous);
+            slugs.add(slug);
+        }
+
+        synchronized void update(Long id, Optional<String> slug) {
+            if (slug.isPresent()) {
+                put(id, slug.get());
+            } else {
+                String previous = byId.remove(id);
+                if (previous != null) slugs.remove(previous);
+            }
+        }
+    }
+}
@@ -2,16 +2,22 @@ package de.tzr.service;
 
 import de.tzr.dto.TagDTO;
 import de.tzr.dto.TagTranslationDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
 import de.tzr.exception.ResourceNotFoundException;
 import de.tzr.exception.SlugAlreadyExistsException;
 import de.tzr.model.*;
 import de.tzr.repository.TagRepository;
 import de.tzr.repository.TagTranslationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,18 +28,32 @@ public class TagService {
     private final TagTranslationRepository tagTranslationRepository;
     private final TranslationTaskService translationTaskService;
     private final AutoTranslationService autoTranslationService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Every tag with its translations and article count, handed to {@code sink} as its rows
+     * come off the cursor; only the current tag's translations are held.
+     */
     @Transactional(readOnly = true)
-    public List<TagDTO> getAll() {
-        return tagRepository.findAll().stream()
-            .map(t -> {
-                List<TagTranslationDTO> translations = t.getTranslations().values().stream()
-                    .map(tr -> new TagTranslationDTO(tr.getLanguage().name(), tr.getName()))
-                    .toList();
-                return new TagDTO(t.getId(), t.getName(), t.getSlug(),
-                    t.getArticles() != null ? t.getArticles().size() : 0, translations);
-            })
-            .toList();
+    public void forEachTag(Consumer<TagDTO> sink) {
+        try (Stream<Object[]> rows = tagRepository.streamAllWithTranslations()) {
+            Object[] tag = null;
+            List<TagTranslationDTO> translations = new ArrayList<>();
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); ) {
+                Object[] row = it.next();
+                if (tag != null && !tag[0].equals(row[0])) {
+                    sink.accept(toDTO(tag, translations));
+                    translations = new ArrayList<>();
+                }
+                tag = row;
+                if (row[4] != null) translations.add(new TagTranslationDTO(((Language) row[4]).name(), (String) row[5]));
+            }
+            if (tag != null) sink.accept(toDTO(tag, translations));
+        }
+    }
+
+    private static TagDTO toDTO(Object[] row, List<TagTranslationDTO> translations) {
+        return new TagDTO((Long) row[0], (String) row[1], (String) row[2], ((Number) row[3]).intValue(), translations);
     }
 
     public TagDTO create(String name) {
@@ -45,6 +65,7 @@ public class TagService {
         tag = tagRepository.save(tag);
         translationTaskService.createTasksForEntity(TranslationTaskEntityType.TAG, tag.getId());
         autoTranslationService.translateTag(tag.getId(), Language.DEFAULT);
+        publishChanged(tag.getId());
         return new TagDTO(tag.getId(), tag.getName(), tag.getSlug(), 0, null);
     }
 
@@ -58,6 +79,7 @@ public class TagService {
         tag.setName(name);
         tag.setSlug(newSlug);
         tag = tagRepository.save(tag);
+        publishChanged(tag.getId());
         return new TagDTO(tag.getId(), tag.getName(), tag.getSlug(),
             tag.getArticles() != null ? tag.getArticles().size() : 0, null);
     }
@@ -69,6 +91,7 @@ public class TagService {
             article.getTags().remove(tag);
         }
         tagRepository.delete(tag);
+        publishChanged(id);
     }
 
     public void merge(Long sourceId, Long targetId) {
@@ -82,5 +105,11 @@ public class TagService {
             article.getTags().add(target);
         }
         tagRepository.delete(source);
+        publishChanged(sourceId);
+        publishChanged(targetId);
+    }
+
+    private void publishChanged(Long id) {
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.TAG, id));
     }
 }
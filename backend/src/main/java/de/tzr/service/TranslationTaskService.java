@@ -8,8 +8,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -46,11 +49,22 @@ public class TranslationTaskService {
             .toList();
     }
 
+    /**
+     * Every task, oldest first, handed to {@code sink} as it is read from the cursor; entity
+     * titles come from the same query instead of a lookup per task.
+     */
     @Transactional(readOnly = true)
-    public List<TranslationTaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-            .map(this::toDTO)
-            .toList();
+    public void forEachTask(Consumer<TranslationTaskDTO> sink) {
+        try (Stream<Object[]> rows = taskRepository.streamAllWithTitles()) {
+            rows.forEach(row -> {
+                TranslationTaskEntityType type = (TranslationTaskEntityType) row[1];
+                String title = row[8] != null ? (String) row[8] : unknownTitle(type);
+                sink.accept(new TranslationTaskDTO(
+                    (Long) row[0], type.name(), (Long) row[2], title,
+                    ((Language) row[3]).name(), ((Language) row[4]).name(), ((TranslationTaskStatus) row[5]).name(),
+                    (LocalDateTime) row[6], (LocalDateTime) row[7]));
+            });
+        }
     }
 
     @Transactional(readOnly = true)
@@ -80,10 +94,19 @@ public class TranslationTaskService {
 
     private String resolveEntityTitle(TranslationTaskEntityType type, Long id) {
         return switch (type) {
-            case ARTICLE -> articleRepository.findById(id).map(Article::getTitle).orElse("Unknown Article");
-            case CATEGORY -> categoryRepository.findById(id).map(Category::getDisplayName).orElse("Unknown Category");
-            case AUTHOR -> authorRepository.findById(id).map(Author::getName).orElse("Unknown Author");
-            case TAG -> tagRepository.findById(id).map(Tag::getName).orElse("Unknown Tag");
+            case ARTICLE -> articleRepository.findById(id).map(Article::getTitle).orElse(unknownTitle(type));
+            case CATEGORY -> categoryRepository.findById(id).map(Category::getDisplayName).orElse(unknownTitle(type));
+            case AUTHOR -> authorRepository.findById(id).map(Author::getName).orElse(unknownTitle(type));
+            case TAG -> tagRepository.findById(id).map(Tag::getName).orElse(unknownTitle(type));
+        };
+    }
+
+    private static String unknownTitle(TranslationTaskEntityType type) {
+        return switch (type) {
+            case ARTICLE -> "Unknown Article";
+            case CATEGORY -> "Unknown Category";
+            case AUTHOR -> "Unknown Author";
+            case TAG -> "Unknown Tag";
         };
     }
 }
@@ -0,0 +1,93 @@
+package de.tzr.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tzr.dto.ArticleDTO;
+import de.tzr.service.ArticleService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Payload size and serialization time of the article page DTO as JSON, Smile and CBOR, with the
+ * mappers the converters use. Prints a table (raw and gzip bytes, mean microseconds per DTO);
+ * excluded from the default build, results are recorded in infra/benchmarks/README.md:
+ * <pre>mvn test -Pbenchmark -Dtest=BinaryFormatsBenchmarkTest</pre>
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("dev")
+class BinaryFormatsBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter json;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smile;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cbor;
+
+    @Test
+    void measuresArticlePayloadsAcrossFormats() throws IOException {
+        List<ArticleDTO> articles = BinaryFormatsTest.articles(articleService);
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("JSON", json.getObjectMapper());
+        formats.put("Smile", smile.getObjectMapper());
+        formats.put("CBOR", cbor.getObjectMapper());
+
+        System.out.printf("%d article DTOs%n%-6s %12s %12s %14s%n", articles.size(), "format", "bytes", "gzip bytes", "us per DTO");
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            long raw = 0;
+            long gzip = 0;
+            for (ArticleDTO article : articles) {
+                byte[] bytes = mapper.writeValueAsBytes(article);
+                raw += bytes.length;
+                gzip += gzip(bytes).length;
+            }
+            System.out.printf("%-6s %12d %12d %14.2f%n", format.getKey(), raw, gzip, microsPerDto(mapper, articles));
+        }
+    }
+
+    private static double microsPerDto(ObjectMapper mapper, List<ArticleDTO> articles) throws IOException {
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (ArticleDTO article : articles) sink += mapper.writeValueAsBytes(article).length;
+        }
+        long start = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (ArticleDTO article : articles) sink += mapper.writeValueAsBytes(article).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertTrue(sink > 0);
+        return elapsed / 1000.0 / MEASURED_ROUNDS / articles.size();
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+}
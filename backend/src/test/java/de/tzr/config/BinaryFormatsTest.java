@@ -0,0 +1,97 @@
+package de.tzr.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tzr.dto.ArticleDTO;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.model.Language;
+import de.tzr.service.ArticleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Every seeded article page, in every language, read back from Smile and CBOR carries the same
+ * tree as its JSON, and both binary formats are smaller uncompressed. Negotiation follows the
+ * q-values of {@code Accept}. Timings are measured by {@link BinaryFormatsBenchmarkTest}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class BinaryFormatsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter json;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smile;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cbor;
+
+    @Test
+    void binaryFormatsRoundTripToTheSameTreeAndAreSmaller() throws IOException {
+        List<ArticleDTO> articles = articles(articleService);
+        ObjectMapper jsonMapper = json.getObjectMapper();
+        long jsonBytes = 0;
+        long smileBytes = 0;
+        long cborBytes = 0;
+        for (ArticleDTO article : articles) {
+            String tree = jsonMapper.writeValueAsString(article);
+            byte[] smiled = smile.getObjectMapper().writeValueAsBytes(article);
+            byte[] cbored = cbor.getObjectMapper().writeValueAsBytes(article);
+            assertEquals(tree, jsonMapper.writeValueAsString(smile.getObjectMapper().readTree(smiled)), "Smile tree of " + article.slug());
+            assertEquals(tree, jsonMapper.writeValueAsString(cbor.getObjectMapper().readTree(cbored)), "CBOR tree of " + article.slug());
+            jsonBytes += jsonMapper.writeValueAsBytes(article).length;
+            smileBytes += smiled.length;
+            cborBytes += cbored.length;
+        }
+        assertTrue(smileBytes < jsonBytes, "Smile " + smileBytes + " vs JSON " + jsonBytes);
+        assertTrue(cborBytes < jsonBytes, "CBOR " + cborBytes + " vs JSON " + jsonBytes);
+    }
+
+    @Test
+    void negotiationWeighsQualityValues() throws Exception {
+        assertEquals("application/json", contentType("application/json, application/cbor;q=0.1"));
+        assertEquals("application/cbor", contentType("application/cbor, application/json;q=0.5"));
+        assertEquals("application/x-jackson-smile", contentType("application/json;q=0.2, application/x-jackson-smile"));
+        assertEquals("application/json", contentType("*/*"));
+    }
+
+    private String contentType(String accept) throws Exception {
+        String contentType = mockMvc.perform(get("/api/public/categories").header("Accept", accept))
+            .andReturn().getResponse().getContentType();
+        return contentType == null ? null : contentType.split(";")[0];
+    }
+
+    /** The first 50 published articles, each in every language. */
+    static List<ArticleDTO> articles(ArticleService articleService) {
+        List<ArticleDTO> articles = new ArrayList<>();
+        for (ArticleListDTO item : articleService.getAllPublished(Language.DE, PageRequest.of(0, 50)).content()) {
+            for (Language lang : Language.values()) {
+                articles.add(articleService.getBySlug(item.slug(), lang));
+            }
+        }
+        return articles;
+    }
+}
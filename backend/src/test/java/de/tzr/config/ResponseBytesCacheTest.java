@@ -0,0 +1,54 @@
+package de.tzr.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseBytesCacheTest {
+
+    @Test
+    void acceptsGzipByCodingAndQuality() {
+        assertTrue(acceptsGzip("gzip, deflate, br"));
+        assertTrue(acceptsGzip("x-gzip"));
+        assertTrue(acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(acceptsGzip("gzip;q=0.01"));
+        assertTrue(acceptsGzip("*"));
+
+        assertFalse(acceptsGzip(null));
+        assertFalse(acceptsGzip("deflate, br"));
+        assertFalse(acceptsGzip("gzip;q=0"));
+        assertFalse(acceptsGzip("gzip; q=0"));
+        assertFalse(acceptsGzip("gzip;q=0.0, br"));
+        assertFalse(acceptsGzip("br, x-gzip ; Q=0.000"));
+        assertFalse(acceptsGzip("gzip;q=0, *"));
+        assertFalse(acceptsGzip("*;q=0"));
+        assertFalse(acceptsGzip("gzipped"));
+    }
+
+    @Test
+    void capturesOnlyCacheablePublicGets() {
+        ResponseBytesFilter filter = new ResponseBytesFilter(null);
+        assertFalse(filter.shouldNotFilter(request("GET", "/api/public/articles")));
+        assertFalse(filter.shouldNotFilter(request("GET", "/api/public/articles/eingewoehnung")));
+        assertFalse(filter.shouldNotFilter(request("GET", "/api/public/pages/home")));
+
+        assertTrue(filter.shouldNotFilter(request("GET", "/api/public/articles/search")));
+        assertTrue(filter.shouldNotFilter(request("GET", "/api/public/articles/suggest")));
+        assertTrue(filter.shouldNotFilter(request("GET", "/api/public/articles/batch")));
+        assertTrue(filter.shouldNotFilter(request("GET", "/api/public/newsletter/confirm")));
+        assertTrue(filter.shouldNotFilter(request("GET", "/api/admin/articles")));
+        assertTrue(filter.shouldNotFilter(request("POST", "/api/public/newsletter")));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        MockHttpServletRequest request = request("GET", "/api/public/articles");
+        if (acceptEncoding != null) request.addHeader("Accept-Encoding", acceptEncoding);
+        return ResponseBytesCache.acceptsGzip(request);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
@@ -0,0 +1,64 @@
+package de.tzr.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The proxy may keep successful public responses, and a 404 on a purged page for the list TTL
+ * only; other errors are never stored.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class SharedCacheControlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void successfulResponsesAreShared() throws Exception {
+        MvcResult first = fetch("/api/public/categories", 200);
+        assertTrue(cacheControl(first).contains("public"), cacheControl(first));
+        assertTrue(cacheControl(first).contains("s-maxage=60"), cacheControl(first));
+
+        // answered from the response bytes cache
+        MvcResult second = fetch("/api/public/categories", 200);
+        assertEquals(cacheControl(first), cacheControl(second));
+
+        MvcResult home = fetch("/api/public/pages/home", 200);
+        assertTrue(cacheControl(home).contains("s-maxage=3600"), cacheControl(home));
+    }
+
+    @Test
+    void errorsAreNotStored() throws Exception {
+        assertEquals("no-store", cacheControl(fetch("/api/public/categories/no-such-category", 404)));
+        assertEquals("no-store", cacheControl(fetch("/api/public/articles?after=not-a-cursor", 400)));
+    }
+
+    @Test
+    void missingArticleIsSharedForTheListTtlOnly() throws Exception {
+        String cacheControl = cacheControl(fetch("/api/public/articles/no-such-article", 404));
+        assertTrue(cacheControl.contains("public"), cacheControl);
+        assertTrue(cacheControl.contains("s-maxage=60"), cacheControl);
+    }
+
+    private MvcResult fetch(String url, int status) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)).andReturn();
+        assertEquals(status, result.getResponse().getStatus(), url);
+        return result;
+    }
+
+    private static String cacheControl(MvcResult result) {
+        return String.valueOf(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+}
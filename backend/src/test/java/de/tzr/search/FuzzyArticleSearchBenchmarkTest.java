@@ -0,0 +1,136 @@
+package de.tzr.search;
+
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.PageResponse;
+import de.tzr.model.Language;
+import de.tzr.service.ArticleService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import static de.tzr.search.TrigramIndexTest.WORDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 100k published articles with titles and excerpts drawn from a 60k word vocabulary. For typo'd
+ * queries it reports the median of the engine (lookup, ranking and paging; budget 20 ms) and of
+ * the whole uncached {@code ArticleService.search}, which also loads the page's list items. The
+ * result cache of {@code ArticleSearchService} sits in front of this path, so these are the
+ * figures for a cache miss. Needs about 1 GB of heap and is excluded from the default build;
+ * results are recorded in infra/benchmarks/README.md:
+ * <pre>mvn test -Pbenchmark -Dtest=FuzzyArticleSearchBenchmarkTest</pre>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"search.mode=fuzzy", "spring.jpa.show-sql=false"})
+@ActiveProfiles("dev")
+class FuzzyArticleSearchBenchmarkTest {
+
+    private static final int ARTICLES = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final double BUDGET_MILLIS = 20;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private FuzzyArticleSearchEngine searchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchStaysWithinLatencyBudgetAt100kArticles() {
+        Random random = new Random(42);
+        List<String> vocabulary = new ArrayList<>(Arrays.asList(WORDS));
+        for (int i = 0; i < 40_000; i++) {
+            vocabulary.add(randomWord(random));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            vocabulary.add(WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        Long categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Long.class);
+        Long authorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM authors", Long.class);
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int n = 1; n <= ARTICLES; n++) {
+            String title = text(random, vocabulary, 8);
+            String excerpt = text(random, vocabulary, 25) + " " + text(random, Arrays.asList(WORDS), 3);
+            rows.add(new Object[] {title, "bench-" + n, excerpt, categoryId, authorId, Date.valueOf(today.minusDays(n % 3650))});
+            if (rows.size() == BATCH_SIZE) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        searchEngine.load();
+
+        List<String> queries = List.of(
+            "eingewohnugn", "sprachbiltung", "partizpation kinder",
+            "inklsuion", "beobachtnug dokumentatoin", "nachhaltigkiet");
+        for (int i = 0; i < 5; i++) {
+            queries.forEach(this::search);
+        }
+
+        System.out.printf("%d articles%n%-30s %8s %10s %10s%n", ARTICLES, "query", "hits", "engine ms", "total ms");
+        List<String> overBudget = new ArrayList<>();
+        for (String query : queries) {
+            long hits = search(query).totalElements();
+            assertFalse(hits == 0, "no hits for " + query);
+            double engineMillis = medianMillis(() -> searchEngine.search(query, Language.DE, PageRequest.of(0, 12)));
+            double totalMillis = medianMillis(() -> search(query));
+            System.out.printf("%-30s %8d %10.2f %10.2f%n", query, hits, engineMillis, totalMillis);
+            if (engineMillis >= BUDGET_MILLIS) overBudget.add(query + " took " + engineMillis + " ms");
+        }
+        assertTrue(overBudget.isEmpty(), overBudget.toString());
+    }
+
+    private static double medianMillis(Runnable action) {
+        long[] timings = new long[21];
+        for (int i = 0; i < timings.length; i++) {
+            long start = System.nanoTime();
+            action.run();
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return timings[timings.length / 2] / 1_000_000.0;
+    }
+
+    private PageResponse<ArticleListDTO> search(String query) {
+        return articleService.search(query, Language.DE, PageRequest.of(0, 12));
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO articles (title, slug, excerpt, body, category_id, author_id, status, "
+            + "academic, featured, published_date) VALUES (?, ?, ?, '<p></p>', ?, ?, 'PUBLISHED', false, false, ?)", rows);
+    }
+
+    private static String text(Random random, List<String> vocabulary, int words) {
+        StringJoiner text = new StringJoiner(" ");
+        for (int i = 0; i < words; i++) {
+            text.add(vocabulary.get(random.nextInt(vocabulary.size())));
+        }
+        return text.toString();
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 5 + random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
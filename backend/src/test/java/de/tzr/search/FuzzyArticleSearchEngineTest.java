@@ -0,0 +1,86 @@
+package de.tzr.search;
+
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.PageResponse;
+import de.tzr.model.Language;
+import de.tzr.service.ArticleService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * With {@code search.mode=fuzzy} the public search finds articles by a misspelled title word
+ * and renders the page in the same number of statements as the list endpoints.
+ */
+@SpringBootTest(properties = {
+    "search.mode=fuzzy",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@ActiveProfiles("dev")
+class FuzzyArticleSearchEngineTest {
+
+    private static final int MAX_STATEMENTS = 4;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void findsArticlesByMisspelledTitleWords() {
+        ArticleListDTO sample = articleService.getAllPublished(Language.DE, PageRequest.of(0, 12)).content().get(0);
+        String word = SearchText.words(sample.title()).stream()
+            .max(Comparator.comparingInt(String::length))
+            .orElseThrow();
+        String typo = swapped(word, 3);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        PageResponse<ArticleListDTO> hits = articleService.search(typo, Language.DE, PageRequest.of(0, 50));
+
+        assertTrue(hits.content().stream().anyMatch(a -> a.id().equals(sample.id())), typo + " in " + sample.title());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS,
+            statistics.getPrepareStatementCount() + " statements");
+    }
+
+    /** Short words allow a single edit, which a swap of adjacent letters must fit into. */
+    @Test
+    void findsArticlesByShortWordsWithSwappedLetters() {
+        List<ArticleListDTO> articles = articleService.getAllPublished(Language.DE, PageRequest.of(0, 50)).content();
+        ArticleListDTO sample = null;
+        String word = null;
+        for (ArticleListDTO article : articles) {
+            Optional<String> shortWord = SearchText.words(article.title()).stream()
+                .filter(w -> w.length() >= 4 && w.length() <= 7 && w.charAt(1) != w.charAt(2))
+                .findFirst();
+            if (shortWord.isPresent()) {
+                sample = article;
+                word = shortWord.get();
+                break;
+            }
+        }
+        assertNotNull(sample, "no published title with a 4-7 letter word");
+
+        String typo = swapped(word, 1);
+        PageResponse<ArticleListDTO> hits = articleService.search(typo, Language.DE, PageRequest.of(0, 200));
+        String title = sample.title();
+        Long id = sample.id();
+        assertTrue(hits.content().stream().anyMatch(a -> a.id().equals(id)), typo + " in " + title);
+    }
+
+    private static String swapped(String word, int at) {
+        return word.substring(0, at) + word.charAt(at + 1) + word.charAt(at) + word.substring(at + 2);
+    }
+}
@@ -0,0 +1,65 @@
+package de.tzr.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    private static final Comparator<String> SHORTEST_FIRST =
+        Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder());
+
+    @Test
+    void everyNodeKeepsItsBestValuesInOrder() {
+        PrefixTrie<String> trie = new PrefixTrie<>(SHORTEST_FIRST, 3, 32);
+        for (String word : List.of("kindergarten", "kind", "kinder", "kindheit", "kita", "krippe", "kinderrechte")) {
+            trie.add(word, word);
+        }
+
+        assertEquals(List.of("kind", "kita", "kinder"), trie.lookup("k", 10));
+        assertEquals(List.of("kind", "kinder", "kindheit"), trie.lookup("kin", 10));
+        assertEquals(List.of("kinder", "kindergarten", "kinderrechte"), trie.lookup("kinder", 10));
+        assertEquals(List.of("kind"), trie.lookup("k", 1));
+        assertEquals(List.of(), trie.lookup("kx", 10));
+    }
+
+    @Test
+    void removingAValueLetsTheNextOneMoveUp() {
+        PrefixTrie<String> trie = new PrefixTrie<>(SHORTEST_FIRST, 2, 32);
+        for (String word : List.of("spiel", "spielen", "spielplatz", "sprache")) {
+            trie.add(word, word);
+        }
+        assertEquals(List.of("spiel", "spielen"), trie.lookup("sp", 10));
+
+        assertTrue(trie.remove("spiel", "spiel"));
+        assertEquals(List.of("spielen", "sprache"), trie.lookup("sp", 10));
+        assertEquals(List.of("spielen", "spielplatz"), trie.lookup("spiel", 10));
+
+        assertFalse(trie.remove("spiel", "spiel"));
+        assertTrue(trie.remove("spielen", "spielen"));
+        assertTrue(trie.remove("spielplatz", "spielplatz"));
+        assertEquals(List.of(), trie.lookup("spiel", 10));
+        assertEquals(List.of("sprache"), trie.lookup("s", 10));
+    }
+
+    @Test
+    void keysAndPrefixesAreCutAtMaxDepth() {
+        PrefixTrie<String> trie = new PrefixTrie<>(SHORTEST_FIRST, 5, 4);
+        trie.add("eingewoehnung", "eingewoehnung");
+        trie.add("einschulung", "einschulung");
+
+        assertEquals(List.of("eingewoehnung"), trie.lookup("eing", 10));
+        // past the cutoff every key with the same first four characters matches
+        assertEquals(List.of("eingewoehnung"), trie.lookup("eingxyz", 10));
+        assertEquals(List.of("einschulung"), trie.lookup("einschulung", 10));
+        assertEquals(List.of("einschulung", "eingewoehnung"), trie.lookup("ein", 10));
+
+        assertTrue(trie.remove("eingewoehnung", "eingewoehnung"));
+        assertEquals(List.of(), trie.lookup("eing", 10));
+    }
+}
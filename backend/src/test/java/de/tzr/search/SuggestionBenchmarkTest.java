@@ -0,0 +1,95 @@
+package de.tzr.search;
+
+import de.tzr.model.Language;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import static de.tzr.search.TrigramIndexTest.WORDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 20k published articles with eight-word titles drawn from the fuzzy search vocabulary, so
+ * the tries hold 160k word starts per language. The median {@code SuggestionService.suggest}
+ * for one- to three-letter and longer prefixes must stay below 5 ms. At 100k such articles
+ * loading them ran out of a 1.5 GB heap. Excluded from the default build; results are
+ * recorded in infra/benchmarks/README.md:
+ * <pre>mvn test -Pbenchmark -Dtest=SuggestionBenchmarkTest</pre>
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("dev")
+class SuggestionBenchmarkTest {
+
+    private static final int ARTICLES = 20_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final double BUDGET_MILLIS = 5;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void suggestStaysWithinLatencyBudgetAt20kArticles() {
+        Random random = new Random(42);
+        List<String> vocabulary = new ArrayList<>(Arrays.asList(WORDS));
+        for (int i = 0; i < 20_000; i++) {
+            vocabulary.add(WORDS[random.nextInt(WORDS.length)] + WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        Long categoryId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM categories", Long.class);
+        Long authorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM authors", Long.class);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        String sample = null;
+        for (int n = 1; n <= ARTICLES; n++) {
+            StringJoiner title = new StringJoiner(" ");
+            for (int i = 0; i < 8; i++) title.add(vocabulary.get(random.nextInt(vocabulary.size())));
+            if (sample == null) sample = title.toString();
+            rows.add(new Object[] {title.toString(), "bench-" + n, categoryId, authorId});
+            if (rows.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO articles (title, slug, excerpt, body, category_id, author_id, status, "
+                    + "academic, featured) VALUES (?, ?, '', '<p></p>', ?, ?, 'PUBLISHED', false, false)", rows);
+                rows.clear();
+            }
+        }
+        suggestionService.load();
+
+        // multi-word prefixes start mid-title, taken from one the benchmark wrote
+        List<String> words = SearchText.words(sample);
+        List<String> prefixes = List.of("k", "ki", "kin", "eing", "sprachb",
+            words.get(2) + " " + words.get(3).substring(0, 2), String.join(" ", words.subList(1, words.size())));
+        for (int i = 0; i < 1_000; i++) {
+            prefixes.forEach(p -> suggestionService.suggest(p, Language.DE, 8));
+        }
+
+        System.out.printf("%d articles%n%-28s %8s %12s%n", ARTICLES, "prefix", "results", "median us");
+        List<String> overBudget = new ArrayList<>();
+        for (String prefix : prefixes) {
+            long[] timings = new long[101];
+            int results = 0;
+            for (int i = 0; i < timings.length; i++) {
+                long start = System.nanoTime();
+                results = suggestionService.suggest(prefix, Language.DE, 8).size();
+                timings[i] = System.nanoTime() - start;
+            }
+            assertFalse(results == 0, "no suggestions for " + prefix);
+            Arrays.sort(timings);
+            double medianMicros = timings[timings.length / 2] / 1_000.0;
+            System.out.printf("%-28s %8d %12.1f%n", prefix.length() > 28 ? prefix.substring(0, 25) + "..." : prefix, results, medianMicros);
+            if (medianMicros >= BUDGET_MILLIS * 1_000) overBudget.add(prefix + " took " + medianMicros + " µs");
+        }
+        assertTrue(overBudget.isEmpty(), overBudget.toString());
+    }
+}
@@ -0,0 +1,157 @@
+package de.tzr.search;
+
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.CategoryCreateDTO;
+import de.tzr.dto.CategoryDTO;
+import de.tzr.dto.CategoryTranslationDTO;
+import de.tzr.dto.SuggestionDTO;
+import de.tzr.dto.TagDTO;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.model.Language;
+import de.tzr.service.ArticleService;
+import de.tzr.service.CategoryService;
+import de.tzr.service.TagService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Suggestions are found from any word start, kept per language, and follow article, category
+ * and tag writes without a reload. Runs against the dev seed data.
+ */
+@SpringBootTest(properties = "translation.auto-translate=false")
+@ActiveProfiles("dev")
+class SuggestionServiceTest {
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void findsTitlesFromAWordInTheMiddle() {
+        ArticleListDTO article = articleService.getAllPublished(Language.DE, PageRequest.of(0, 50)).content().stream()
+            .filter(a -> SearchText.words(a.title()).size() >= 3 && SearchText.words(a.title()).get(1).length() >= 3)
+            .findFirst()
+            .orElseThrow();
+        List<String> words = SearchText.words(article.title());
+        String fromSecondWord = String.join(" ", words.subList(1, words.size()));
+
+        assertTrue(slugs(fromSecondWord, Language.DE).contains(article.slug()), fromSecondWord);
+        assertTrue(slugs(fromSecondWord.toUpperCase(), Language.DE).contains(article.slug()), "case");
+        assertFalse(slugs(words.get(1).substring(1) + " " + words.get(2), Language.DE).contains(article.slug()), "inside a word");
+    }
+
+    @Test
+    void categoriesComeFirstThenTagsThenShorterTitles() {
+        List<SuggestionDTO> suggestions = suggestionService.suggest("b", Language.DE, SuggestionService.MAX_LIMIT);
+        assertFalse(suggestions.isEmpty());
+        List<String> types = suggestions.stream().map(SuggestionDTO::type).toList();
+        assertEquals(types.stream().sorted(Comparator.comparingInt(List.of("CATEGORY", "TAG", "ARTICLE")::indexOf)).toList(), types);
+        for (int i = 1; i < suggestions.size(); i++) {
+            SuggestionDTO previous = suggestions.get(i - 1);
+            SuggestionDTO current = suggestions.get(i);
+            if (previous.type().equals(current.type())) {
+                assertTrue(previous.text().length() <= current.text().length(), previous.text() + " before " + current.text());
+            }
+        }
+        assertEquals(suggestions.subList(0, 3), suggestionService.suggest("b", Language.DE, 3));
+    }
+
+    @Test
+    void eachLanguageSuggestsItsOwnTexts() {
+        CategoryDTO category = categoryService.create(new CategoryCreateDTO("Wolkenkunde", "wolkenkunde", "Wolkenkunde",
+            null, null, null, null, "BILDUNGSBEREICH", 99,
+            List.of(new CategoryTranslationDTO("PT", "Nuvens", "Estudo das nuvens", null))));
+        try {
+            assertEquals(List.of("wolkenkunde"), slugs("wolkenk", Language.DE));
+            assertEquals(List.of("wolkenkunde"), slugs("wolkenk", Language.EN), "falls back to German");
+            assertEquals(List.of(), slugs("wolkenk", Language.PT));
+            assertEquals(List.of("wolkenkunde"), slugs("estudo das nu", Language.PT));
+            assertEquals(List.of("wolkenkunde"), slugs("nuvens", Language.PT), "from the second word");
+            assertEquals(List.of(), slugs("estudo das nu", Language.DE));
+        } finally {
+            categoryService.delete(category.id());
+        }
+        assertEquals(List.of(), slugs("wolkenk", Language.DE));
+        assertEquals(List.of(), slugs("estudo das nu", Language.PT));
+    }
+
+    @Test
+    void followsCategoryChanges() {
+        CategoryDTO category = categoryService.create(new CategoryCreateDTO("Sternwarte", "sternwarte", "Sternwarte",
+            null, null, null, null, "BILDUNGSBEREICH", 99, null));
+        try {
+            assertEquals(List.of("sternwarte"), slugs("sternw", Language.DE));
+
+            categoryService.update(category.id(), new CategoryCreateDTO("Himmelszelt", "himmelszelt", "Himmelszelt",
+                null, null, null, null, "BILDUNGSBEREICH", 99, null));
+            assertEquals(List.of(), slugs("sternw", Language.DE));
+            assertEquals(List.of("himmelszelt"), slugs("himmelsz", Language.DE));
+        } finally {
+            categoryService.delete(category.id());
+        }
+        assertEquals(List.of(), slugs("himmelsz", Language.DE));
+    }
+
+    @Test
+    void followsTagChanges() {
+        TagDTO tag = tagService.create("Murmelbahn");
+        try {
+            assertEquals(List.of("murmelbahn"), slugs("murmelb", Language.PT));
+
+            tagService.update(tag.id(), "Kugelbahn Bau");
+            assertEquals(List.of(), slugs("murmelb", Language.DE));
+            assertEquals(List.of("kugelbahn-bau"), slugs("kugelbahn b", Language.DE));
+            assertEquals(List.of("kugelbahn-bau"), slugs("bau", Language.DE).stream().filter("kugelbahn-bau"::equals).toList(), "from the second word");
+        } finally {
+            tagService.delete(tag.id());
+        }
+        assertEquals(List.of(), slugs("kugelbahn b", Language.DE));
+    }
+
+    @Test
+    void followsArticleChanges() {
+        ArticleListDTO article = articleService.getAllPublished(Language.DE, PageRequest.of(0, 1)).content().get(0);
+        String title = SearchText.normalize(article.title());
+        assertTrue(slugs(title, Language.DE).contains(article.slug()));
+
+        jdbcTemplate.update("UPDATE articles SET status = 'DRAFT' WHERE id = ?", article.id());
+        try {
+            eventPublisher.publishEvent(new ArticleChangedEvent(article.id()));
+            assertFalse(slugs(title, Language.DE).contains(article.slug()));
+        } finally {
+            jdbcTemplate.update("UPDATE articles SET status = 'PUBLISHED' WHERE id = ?", article.id());
+            eventPublisher.publishEvent(new ArticleChangedEvent(article.id()));
+        }
+        assertTrue(slugs(title, Language.DE).contains(article.slug()));
+    }
+
+    private List<String> slugs(String query, Language lang) {
+        return suggestionService.suggest(query, lang, SuggestionService.MAX_LIMIT).stream().map(SuggestionDTO::slug).toList();
+    }
+}
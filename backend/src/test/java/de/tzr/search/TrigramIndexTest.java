@@ -0,0 +1,109 @@
+package de.tzr.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    static final String[] WORDS = {
+        "eingewohnung", "sprachbildung", "partizipation", "inklusion", "kinder", "bildung", "ubergange",
+        "natur", "bewegung", "mathematik", "forschen", "spiel", "fachkrafte", "familien", "beobachtung",
+        "dokumentation", "gruppe", "vielfalt", "alltag", "medien", "nachhaltigkeit", "gesundheit",
+        "kommunikation", "kunst", "krippe", "elternarbeit", "resilienz", "konzeption", "qualitat", "team"
+    };
+
+    @Test
+    void matchesMisspelledCompoundWords() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, Map.of("eingewohnung", 3, "krippe", 1));
+        index.put(2L, Map.of("sprachbildung", 3, "alltag", 1));
+        index.put(3L, Map.of("sprache", 3));
+
+        assertEquals(List.of(1L), List.copyOf(index.search(List.of("eingewohnugn")).keySet()));
+        assertEquals(List.of(2L), List.copyOf(index.search(List.of("sprachbiltung")).keySet()));
+        assertEquals(List.of(2L), List.copyOf(index.search(List.of("sprachbildung", "altag")).keySet()));
+        assertTrue(index.search(List.of("sprachbildung", "krippe")).isEmpty());
+    }
+
+    @Test
+    void fourLetterWordsTolerateOneEditAndShorterOnesNone() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, Map.of("kita", 1));
+        index.put(2L, Map.of("uni", 1));
+
+        assertEquals(List.of(1L), List.copyOf(index.search(List.of("kitq")).keySet()));
+        assertEquals(List.of(2L), List.copyOf(index.search(List.of("uni")).keySet()));
+        assertTrue(index.search(List.of("unu")).isEmpty());
+    }
+
+    @Test
+    void shortWordsTolerateSwappedLetters() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, Map.of("kinder", 1));
+        index.put(2L, Map.of("spiel", 1));
+        index.put(3L, Map.of("natur", 1));
+        index.put(4L, Map.of("medien", 1));
+        index.put(5L, Map.of("gruppe", 1));
+
+        assertEquals(List.of(1L), List.copyOf(index.search(List.of("kidner")).keySet()));
+        assertEquals(List.of(2L), List.copyOf(index.search(List.of("sipel")).keySet()));
+        assertEquals(List.of(3L), List.copyOf(index.search(List.of("nautr")).keySet()));
+        assertEquals(List.of(4L), List.copyOf(index.search(List.of("meiden")).keySet()));
+        assertEquals(List.of(5L), List.copyOf(index.search(List.of("gurppe")).keySet()));
+    }
+
+    @Test
+    void removedDocumentsNoLongerMatch() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, Map.of("eingewohnung", 3));
+        index.put(1L, Map.of("resilienz", 3));
+        assertTrue(index.search(List.of("eingewohnung")).isEmpty());
+
+        index.remove(1L);
+        assertTrue(index.search(List.of("resilienz")).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void ranksByFieldWeightAndSimilarity() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1L, Map.of("inklusion", 1));
+        index.put(2L, Map.of("inklusion", 3));
+        index.put(3L, Map.of("inklusionen", 3));
+
+        Map<Long, Double> scores = index.search(List.of("inklusion"));
+        assertTrue(scores.get(2L) > scores.get(3L));
+        assertTrue(scores.get(3L) > scores.get(1L));
+    }
+
+    /** A thousand articles: a misspelled word finds every article holding the word, and only those. */
+    @Test
+    void findsEveryArticleHoldingAMisspelledWord() {
+        Random random = new Random(42);
+        TrigramIndex index = new TrigramIndex();
+        Map<String, Set<Long>> holders = new HashMap<>();
+        for (long id = 1; id <= 1_000; id++) {
+            Map<String, Integer> words = new HashMap<>();
+            for (int i = 0; i < 5; i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                words.merge(word, 1 + random.nextInt(3), Math::max);
+                holders.computeIfAbsent(word, k -> new HashSet<>()).add(id);
+            }
+            index.put(id, words);
+        }
+
+        for (String word : List.of("eingewohnung", "partizipation", "nachhaltigkeit", "dokumentation")) {
+            String typo = word.substring(0, 3) + word.charAt(4) + word.charAt(3) + word.substring(5);
+            assertEquals(holders.get(word), index.search(List.of(typo)).keySet(), typo);
+        }
+    }
+}
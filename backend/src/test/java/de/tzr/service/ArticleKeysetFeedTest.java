@@ -0,0 +1,82 @@
+package de.tzr.service;
+
+import de.tzr.dto.ArticleCursor;
+import de.tzr.dto.ArticleFields;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.CursorPageResponse;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.model.Language;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Published articles without a date come last in the keyset feed, as in the offset pages, and
+ * a page ending on one of them hands out a cursor that decodes again.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+class ArticleKeysetFeedTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void undatedArticlesComeLast() {
+        List<Long> undated = new ArrayList<>();
+        try {
+            for (String slug : List.of("undated-one", "undated-two")) {
+                undated.add(insertUndated(slug));
+            }
+
+            List<Long> offset = articleService.getAllPublished(Language.DE, PageRequest.of(0, 100,
+                    Sort.by(Sort.Order.desc("publishedDate").nullsLast(), Sort.Order.desc("id"))))
+                .content().stream().map(ArticleListDTO::id).toList();
+            assertEquals(undated.reversed(), offset.subList(offset.size() - 2, offset.size()));
+
+            // one article per page, so pages end on dated and undated articles alike
+            List<Long> feed = new ArrayList<>();
+            ArticleCursor cursor = ArticleCursor.FIRST;
+            while (cursor != null) {
+                CursorPageResponse<ArticleListDTO> page = articleService.getAfter(
+                    ArticleListFilter.NONE, ArticleFields.ALL, cursor, Language.DE, 1);
+                page.content().forEach(a -> feed.add(a.id()));
+                cursor = page.nextCursor() != null ? ArticleCursor.decode(page.nextCursor()) : null;
+                if (cursor != null && undated.contains(cursor.id())) assertNull(cursor.publishedDate());
+            }
+            assertEquals(offset, feed);
+        } finally {
+            undated.forEach(id -> {
+                jdbcTemplate.update("DELETE FROM articles WHERE id = ?", id);
+                eventPublisher.publishEvent(new ArticleChangedEvent(id));
+            });
+        }
+    }
+
+    /** Written directly: the service dates every article it publishes. */
+    private Long insertUndated(String slug) {
+        jdbcTemplate.update("INSERT INTO articles (title, slug, excerpt, body, category_id, author_id, status, academic, featured) "
+            + "SELECT 'Undated', ?, 'Undated', '<p></p>', MIN(c.id), MIN(au.id), 'PUBLISHED', false, false "
+            + "FROM categories c, authors au", slug);
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM articles WHERE slug = ?", Long.class, slug);
+        eventPublisher.publishEvent(new ArticleChangedEvent(id));
+        return id;
+    }
+}
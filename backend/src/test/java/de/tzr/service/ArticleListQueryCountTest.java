@@ -0,0 +1,157 @@
+package de.tzr.service;
+
+import de.tzr.dto.ArticleFields;
+import de.tzr.dto.ArticleListDTO;
+import de.tzr.dto.ArticleListRefDTO;
+import de.tzr.dto.NormalizedPageResponse;
+import de.tzr.dto.PageResponse;
+import de.tzr.dto.SliceResponse;
+import de.tzr.model.Language;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every public article list endpoint must render a page in a fixed number of statements:
+ * page ids, count (unless cached or in slice mode), the projection rows and the tag ids;
+ * categories, authors and tags come from the reference data snapshot. Runs against the dev
+ * seed data.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+class ArticleListQueryCountTest {
+
+    private static final int MAX_STATEMENTS = 4;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ArticleListDTO sample;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        sample = articleService.getAllPublished(Language.DE, page(50)).content().stream()
+            .filter(a -> !a.tags().isEmpty())
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @Test
+    void allPublished() {
+        for (Language lang : Language.values()) {
+            assertBounded(() -> articleService.getAllPublished(lang, page(12)));
+            assertBounded(() -> articleService.getAllPublished(lang, page(50)));
+        }
+    }
+
+    @Test
+    void cachedTotalsAndSlicesSkipTheCount() {
+        articleService.getByTag(sample.tags().get(0).slug(), Language.DE, page(12));
+        assertBounded(MAX_STATEMENTS - 1, () -> articleService.getByTag(sample.tags().get(0).slug(), Language.PT, page(12)));
+
+        statistics.clear();
+        SliceResponse<ArticleListDTO> slice = articleService.getSlice(
+            ArticleListFilter.NONE, ArticleFields.ALL, Language.DE, page(12));
+        assertFalse(slice.content().isEmpty());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS - 1);
+    }
+
+    @Test
+    void byCategory() {
+        assertBounded(() -> articleService.getByCategory(sample.category().slug(), Language.PT, page(12)));
+    }
+
+    @Test
+    void byAuthor() {
+        assertBounded(() -> articleService.getByAuthor(sample.author().slug(), Language.EN, page(12)));
+    }
+
+    @Test
+    void byTag() {
+        assertBounded(() -> articleService.getByTag(sample.tags().get(0).slug(), Language.DE, page(12)));
+    }
+
+    @Test
+    void academic() {
+        assertBounded(() -> articleService.getAcademic(Language.DE, page(12)));
+    }
+
+    @Test
+    void byCategoryType() {
+        assertBounded(() -> articleService.getByCategoryType("BILDUNGSBEREICH", Language.PT, page(50)));
+    }
+
+    @Test
+    void normalized() {
+        statistics.clear();
+        NormalizedPageResponse page = articleService.getNormalized(ArticleListFilter.NONE, Language.PT, page(50));
+        assertFalse(page.content().isEmpty());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS);
+        assertTrue(page.categories().keySet().containsAll(
+            page.content().stream().map(ArticleListRefDTO::categoryId).toList()));
+    }
+
+    @Test
+    void sparseFieldsSkipUnrequestedLoads() {
+        ArticleFields fields = ArticleFields.parse("slug,title,cardEmoji,publishedDate", ArticleFields.LIST_PROPERTIES);
+        // page ids and the narrowed projection; no tag, category or author statements
+        assertBounded(2, () -> articleService.getPage(ArticleListFilter.NONE, fields, Language.PT, page(50)));
+
+        PageResponse<ArticleListDTO> page = articleService.getPage(ArticleListFilter.NONE, fields, Language.PT, page(12));
+        ArticleListDTO item = page.content().get(0);
+        assertNotNull(item.title());
+        assertNotNull(item.slug());
+        assertNull(item.excerpt());
+        assertNull(item.category());
+    }
+
+    @Test
+    void related() {
+        statistics.clear();
+        articleService.getRelated(sample.slug(), Language.DE, PageRequest.of(0, 3));
+        // plus the lookup of the source article
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS + 1);
+    }
+
+    @Test
+    void search() {
+        assertBounded(() -> articleService.search(sample.title(), Language.DE, PageRequest.of(0, 12)));
+    }
+
+    private void assertBounded(Supplier<PageResponse<ArticleListDTO>> call) {
+        assertBounded(MAX_STATEMENTS, call);
+    }
+
+    private void assertBounded(int maxStatements, Supplier<PageResponse<ArticleListDTO>> call) {
+        statistics.clear();
+        PageResponse<ArticleListDTO> page = call.get();
+        long statements = statistics.getPrepareStatementCount();
+        assertFalse(page.content().isEmpty(), "expected a non-empty page");
+        assertTrue(statements <= maxStatements,
+            statements + " statements for " + page.content().size() + " articles");
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "publishedDate"));
+    }
+}
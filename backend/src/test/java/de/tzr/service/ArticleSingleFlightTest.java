@@ -0,0 +1,90 @@
+package de.tzr.service;
+
+import de.tzr.dto.ArticleDTO;
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.model.Language;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * N callers asking for the same cold article at the same moment must cause one load: one
+ * article query, and every caller gets the very same DTO instance.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+class ArticleSingleFlightTest {
+
+    private static final int CALLERS = 64;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void parallelMissesForOneSlugLoadOnce() throws Exception {
+        String slug = articleService.getAllPublished(Language.DE, PageRequest.of(0, 1)).content().get(0).slug();
+        ArticleDTO warm = articleService.getBySlug(slug, Language.PT);
+        eventPublisher.publishEvent(new ArticleChangedEvent(warm.id()));
+
+        assertLoadedOnce(() -> articleService.getBySlug(slug, Language.PT));
+    }
+
+    @Test
+    void parallelMissesForTheFeaturedArticleLoadOnce() throws Exception {
+        ArticleDTO warm = articleService.getFeatured(Language.EN);
+        eventPublisher.publishEvent(new ArticleChangedEvent(warm.id()));
+
+        assertLoadedOnce(() -> articleService.getFeatured(Language.EN));
+    }
+
+    private void assertLoadedOnce(Callable<ArticleDTO> call) throws Exception {
+        statistics.clear();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ArticleDTO>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            ArticleDTO first = results.get(0).get();
+            for (Future<ArticleDTO> result : results) {
+                assertSame(first, result.get());
+            }
+        }
+        assertEquals(1, statistics.getQueryExecutionCount(), "article queries for " + CALLERS + " callers");
+    }
+}
@@ -0,0 +1,79 @@
+package de.tzr.service;
+
+import de.tzr.event.ArticleChangedEvent;
+import de.tzr.model.ArticleStatus;
+import de.tzr.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The proxy refetches the featured article and the homepage as soon as a purge is dispatched,
+ * so the global revision must already have moved: otherwise the refresh is answered with the
+ * bytes cached under the old revision and the proxy keeps them for the page's lifetime.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class EdgeCachePurgeTest {
+
+    private static final List<String> REFRESHED = List.of("/api/public/articles/featured", "/api/public/pages/home");
+
+    @MockitoBean
+    private EdgeCachePurger edgeCachePurger;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContentRevision contentRevision;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void refreshTriggeredByThePurgeSeesTheNewRevision() throws Exception {
+        List<String> before = REFRESHED.stream().map(this::etag).toList();
+
+        CompletableFuture<List<String>> refreshed = new CompletableFuture<>();
+        doAnswer(invocation -> refreshed.complete(REFRESHED.stream().map(this::etag).toList()))
+            .when(edgeCachePurger).purgeArticle(any());
+        Long id = articleRepository.findByStatus(ArticleStatus.PUBLISHED, PageRequest.of(0, 1)).getContent().get(0).getId();
+        eventPublisher.publishEvent(new ArticleChangedEvent(id));
+
+        List<String> after = refreshed.get(5, TimeUnit.SECONDS);
+        String current = "\"" + contentRevision.global().etag() + "\"";
+        for (int i = 0; i < REFRESHED.size(); i++) {
+            assertNotEquals(before.get(i), after.get(i), REFRESHED.get(i));
+            assertEquals(current, after.get(i), REFRESHED.get(i));
+        }
+    }
+
+    private String etag(String url) {
+        try {
+            return mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
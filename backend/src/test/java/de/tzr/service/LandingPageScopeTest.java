@@ -0,0 +1,77 @@
+package de.tzr.service;
+
+import de.tzr.exception.ResourceNotFoundException;
+import de.tzr.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LandingPageScopeTest {
+
+    @Test
+    void laterFailureCancelsEarlierPartsAndIsRethrown() {
+        AtomicBoolean slowPartInterrupted = new AtomicBoolean();
+        long start = System.nanoTime();
+        ResourceNotFoundException thrown = assertThrows(ResourceNotFoundException.class, () -> {
+            try (LandingPageService.Scope scope = new LandingPageService.Scope(new Semaphore(4))) {
+                Future<String> slow = scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        slowPartInterrupted.set(true);
+                        throw e;
+                    }
+                    return "slow";
+                });
+                scope.fork(() -> { throw new ResourceNotFoundException("Category not found: missing"); });
+                scope.join(slow);
+            }
+        });
+        assertTrue(thrown.getMessage().contains("missing"));
+        assertTrue(slowPartInterrupted.get());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void interruptedJoinMapsToServiceUnavailableAndKeepsTheFlag() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (LandingPageService.Scope scope = new LandingPageService.Scope(new Semaphore(4))) {
+            Future<String> part = scope.fork(() -> {
+                release.await();
+                return "done";
+            });
+            Thread.currentThread().interrupt();
+            assertThrows(ServiceUnavailableException.class, () -> scope.join(part));
+            assertTrue(Thread.interrupted());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void partsShareThePermits() throws Exception {
+        Semaphore permits = new Semaphore(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        try (LandingPageService.Scope scope = new LandingPageService.Scope(permits)) {
+            for (int i = 0; i < 8; i++) {
+                scope.fork(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    return running.decrementAndGet();
+                });
+            }
+        }
+        assertEquals(2, peak.get());
+        assertEquals(2, permits.availablePermits());
+    }
+}
@@ -0,0 +1,113 @@
+package de.tzr.service;
+
+import de.tzr.dto.CategoryDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.Language;
+import de.tzr.model.TranslationTaskEntityType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Ids the snapshot does not hold are read from the database once until the next rebuild, and a
+ * category reorder publishes a single change event, so the snapshot is rebuilt once.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+@RecordApplicationEvents
+class ReferenceDataRegistryTest {
+
+    @Autowired
+    private ReferenceDataRegistry registry;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void missesAreLoadedOnceUntilTheNextRebuild() {
+        assertNull(loadedOnce(-1L));
+        assertEquals(0, statementsFor(() -> assertNull(registry.category(-1L, Language.DE))));
+
+        // written behind the registry's back, so only a lookup can find it
+        jdbcTemplate.update("INSERT INTO categories (name, slug, display_name, type, sort_order) "
+            + "VALUES ('Registry Probe', 'registry-probe', 'Registry Probe', 'BILDUNGSBEREICH', 99)");
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE slug = 'registry-probe'", Long.class);
+        try {
+            assertNotNull(loadedOnce(id));
+            assertEquals(0, statementsFor(() -> assertNotNull(registry.category(id, Language.DE))));
+
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, id));
+            assertEquals(0, statementsFor(() -> assertEquals("registry-probe", registry.category(id, Language.PT).slug())));
+        } finally {
+            jdbcTemplate.update("DELETE FROM categories WHERE id = ?", id);
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, id));
+        }
+    }
+
+    @Test
+    void reorderPublishesOneEvent() {
+        List<Long> ids = new ArrayList<>(categoryService.getAll(Language.DE).stream().map(CategoryDTO::id).toList());
+        List<Long> reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+        try {
+            events.clear();
+            categoryService.reorder(reversed);
+
+            List<ReferenceDataChangedEvent> published = events.stream(ReferenceDataChangedEvent.class).toList();
+            assertEquals(1, published.size());
+            assertEquals(reversed, published.get(0).entityIds());
+            assertEquals(0, registry.category(reversed.get(0), Language.DE).sortOrder());
+        } finally {
+            categoryService.reorder(ids);
+        }
+    }
+
+    /** Looks the id up with the snapshot missing it; one statement loads it. */
+    private CategoryDTO loadedOnce(Long id) {
+        CategoryDTO[] found = new CategoryDTO[1];
+        assertEquals(1, statementsFor(() -> found[0] = registry.category(id, Language.DE)));
+        return found[0];
+    }
+
+    private long statementsFor(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
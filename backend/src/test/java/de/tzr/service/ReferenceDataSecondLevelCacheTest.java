@@ -0,0 +1,145 @@
+package de.tzr.service;
+
+import de.tzr.dto.CategoryDTO;
+import de.tzr.event.ReferenceDataChangedEvent;
+import de.tzr.model.CategoryTranslation;
+import de.tzr.model.Language;
+import de.tzr.model.TranslationTaskEntityType;
+import de.tzr.repository.CategoryTranslationRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Rendering the home page and a category landing page a second time must not select from the
+ * reference-data tables: the category list and slug lookups come from the query cache, the
+ * entities and their translation maps from the second-level cache. Joins from article queries
+ * do not count. The pages are assembled on virtual threads, so statements are recorded by a
+ * statement inspector rather than per session.
+ * <p>
+ * A translation written on its own, as auto-translation does, must still show on the next
+ * render, so the cached translations map of its owner cannot stay behind.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "de.tzr.service.ReferenceDataSecondLevelCacheTest$RecordingInspector")
+@ActiveProfiles("dev")
+class ReferenceDataSecondLevelCacheTest {
+
+    private static final Set<String> REFERENCE_TABLES = Set.of(
+        "categories", "category_translations", "authors", "author_translations", "tags", "tag_translations");
+    private static final Pattern FIRST_TABLE = Pattern.compile("\\bfrom\\s+(\\w+)");
+
+    @Autowired
+    private LandingPageService landingPageService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private AutoTranslationService autoTranslationService;
+
+    @Autowired
+    private CategoryTranslationRepository categoryTranslationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private DeepLTranslationClient deepLClient;
+
+    @Test
+    void repeatedRenderSelectsNoReferenceData() {
+        List<CategoryDTO> categories = categoryService.getAll(Language.DEFAULT);
+        assertFalse(categories.isEmpty());
+        String slug = categories.get(0).slug();
+
+        for (Language lang : Language.values()) {
+            render(slug, lang);
+            RecordingInspector.STATEMENTS.clear();
+            render(slug, lang);
+            assertEquals(List.of(), referenceDataSelects(), "repeat render in " + lang);
+        }
+    }
+
+    @Test
+    void autoTranslationShowsOnTheNextRender() {
+        when(deepLClient.translate(anyString(), any(), any())).thenAnswer(call -> "Neu: " + call.getArgument(0));
+        CategoryDTO category = categoryService.getAll(Language.DEFAULT).get(0);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> original = tx.execute(status -> categoryTranslationRepository
+            .findByCategoryIdAndLanguage(category.id(), Language.PT)
+            .map(t -> Arrays.asList(t.getName(), t.getDisplayName(), t.getDescription()))
+            .orElse(null));
+
+        render(category.slug(), Language.PT);
+        try {
+            autoTranslationService.translateCategoryToLang(category.id(), Language.DEFAULT, Language.PT);
+
+            CategoryDTO rendered = landingPageService.getCategory(category.slug(), Language.PT, PageRequest.of(0, 12)).category();
+            assertEquals("Neu: " + category.displayName(), rendered.displayName());
+        } finally {
+            tx.executeWithoutResult(status -> {
+                CategoryTranslation translation = categoryTranslationRepository
+                    .findByCategoryIdAndLanguage(category.id(), Language.PT).orElseThrow();
+                if (original == null) {
+                    categoryTranslationRepository.delete(translation);
+                } else {
+                    translation.setName(original.get(0));
+                    translation.setDisplayName(original.get(1));
+                    translation.setDescription(original.get(2));
+                }
+            });
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(TranslationTaskEntityType.CATEGORY, category.id()));
+        }
+    }
+
+    private void render(String slug, Language lang) {
+        landingPageService.getHome(lang, PageRequest.of(0, 12), PageRequest.of(0, 6));
+        landingPageService.getCategory(slug, lang, PageRequest.of(0, 12));
+    }
+
+    private static List<String> referenceDataSelects() {
+        return RecordingInspector.STATEMENTS.stream()
+            .filter(sql -> {
+                Matcher from = FIRST_TABLE.matcher(sql.toLowerCase(Locale.ROOT));
+                return from.find() && REFERENCE_TABLES.contains(from.group(1));
+            })
+            .toList();
+    }
+
+    /** Instantiated by Hibernate; records every statement from any thread. */
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package de.tzr.service;
+
+import de.tzr.config.StreamingArrayWriter;
+import de.tzr.dto.TranslationTaskDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streaming all translation tasks must keep the live heap flat: 100k rows go through the
+ * cursor and the JSON writer while the retained heap, sampled after a GC every 10k rows,
+ * grows by less than the 100k DTOs alone would take. Runs on its own H2 database with lazy
+ * query execution, so H2 does not materialize the result on its side either.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:tzr-streaming;LAZY_QUERY_EXECUTION=TRUE")
+@ActiveProfiles("dev")
+class TranslationTaskStreamingTest {
+
+    private static final int ROWS = 100_000;
+    private static final int SAMPLE_EVERY = 10_000;
+    /** 100k task DTOs retained at once take roughly 30 MB. */
+    private static final long MAX_HEAP_GROWTH = 10L * 1024 * 1024;
+
+    @Autowired
+    private TranslationTaskService translationTaskService;
+
+    @Autowired
+    private StreamingArrayWriter streamingArrayWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (count() >= ROWS) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO translation_tasks (entity_type, entity_id, source_lang, target_lang, status, created_at, updated_at)
+            VALUES ('ARTICLE', ?, 'DE', ?, 'PENDING', ?, ?)
+            """, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, 1 + i % 30);
+                ps.setString(2, i % 2 == 0 ? "PT" : "EN");
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ROWS;
+            }
+        });
+    }
+
+    @Test
+    void streamsAllTasksWithFlatHeap() throws IOException {
+        long expected = count();
+        long baseline = liveHeap();
+        AtomicLong written = new AtomicLong();
+        AtomicLong peak = new AtomicLong(baseline);
+
+        streamingArrayWriter.<TranslationTaskDTO>write(OutputStream.nullOutputStream(), sink ->
+            translationTaskService.forEachTask(task -> {
+                sink.accept(task);
+                if (written.incrementAndGet() % SAMPLE_EVERY == 0) peak.accumulateAndGet(liveHeap(), Math::max);
+            }));
+
+        assertEquals(expected, written.get());
+        long growth = peak.get() - baseline;
+        assertTrue(growth < MAX_HEAP_GROWTH, "live heap grew by " + growth / 1024 + " KB while streaming " + expected + " tasks");
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translation_tasks", Long.class);
+    }
+
+    private static long liveHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -43,11 +43,11 @@ echo "Version: $VERSION"
 echo ""
 
 # 1. Ensure project directory exists
-echo "[1/5] Setting up project directory..."
+echo "[1/6] Setting up project directory..."
 ssh "$SERVER" "mkdir -p $PROJECT_DIR"
 
 # 2. Copy compose and env files
-echo "[2/5] Syncing configuration..."
+echo "[2/6] Syncing configuration..."
 scp "$COMPOSE_FILE" "$SERVER:$PROJECT_DIR/$COMPOSE_FILE"
 
 if [ -f "$ENV_FILE" ]; then
@@ -57,16 +57,21 @@ else
 fi
 
 # 3. Pull latest image from GHCR
-echo "[3/5] Pulling image from GHCR..."
+echo "[3/6] Pulling image from GHCR..."
 ssh "$SERVER" "cd $PROJECT_DIR && export VERSION=$VERSION && docker compose -f $COMPOSE_FILE pull app"
 
 # 4. Start/restart containers
-echo "[4/5] Starting containers..."
+echo "[4/6] Starting containers..."
 ssh "$SERVER" "cd $PROJECT_DIR && export VERSION=$VERSION && docker compose -f $COMPOSE_FILE up -d"
 
-# 5. Verify health
-echo "[5/5] Verifying deployment..."
+# 5. Apply migrations the app cannot run itself (tables exist once it has started)
+echo "[5/6] Applying database migrations..."
 sleep 20
+cat infra/postgres/search-vectors.sql infra/postgres/article-feed-index.sql \
+  | ssh "$SERVER" "docker exec -i $DB_CONTAINER psql -v ON_ERROR_STOP=1 -U tzr -d tzr"
+
+# 6. Verify health
+echo "[6/6] Verifying deployment..."
 
 ssh "$SERVER" "cd $PROJECT_DIR && docker compose -f $COMPOSE_FILE ps"
 
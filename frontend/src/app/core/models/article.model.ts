@@ -41,6 +41,7 @@ export interface ArticleList {
   featured: boolean;
   publishedDate: string;
   readingTimeMinutes: number;
+  highlight?: string;
 }
 
 export interface ArticleTranslation {
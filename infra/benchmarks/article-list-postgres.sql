@@ -0,0 +1,108 @@
+-- TZR — article list page loading: entity graph (before) vs. body-free projection (after)
+-- vs. sparse fieldset projection (?fields=slug,title,cardEmoji,publishedDate)
+--
+-- Builds a throwaway schema "list_bench" with :n published articles of ~8 KB body each and
+-- DE/PT/EN translations carrying their own bodies, then loads one 50-article list page with
+-- the statement Hibernate issued for the article entity graph (every article and translation
+-- column), with the ArticleRepository.findListRowsByIdIn projection and with the statement
+-- findSparseListRowsByIdIn builds for the homepage widget fields.
+--
+--   psql -d tzr_bench -v n=10000 -f infra/benchmarks/article-list-postgres.sql
+--
+-- EXPLAIN ANALYZE does not detoast output columns, so each shape is also run five times into
+-- /dev/null; compare the "Time:" lines, and the payload sizes printed at the end.
+
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS list_bench CASCADE;
+CREATE SCHEMA list_bench;
+SET search_path = list_bench;
+
+CREATE TABLE articles (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL UNIQUE,
+    excerpt TEXT NOT NULL,
+    body TEXT NOT NULL,
+    category_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    card_emoji VARCHAR(255),
+    cover_image_url VARCHAR(255),
+    cover_image_credit VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    academic BOOLEAN,
+    featured BOOLEAN,
+    published_date DATE,
+    reading_time_minutes INTEGER,
+    meta_title VARCHAR(255),
+    meta_description VARCHAR(255),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE article_translations (
+    id BIGSERIAL PRIMARY KEY,
+    article_id BIGINT NOT NULL REFERENCES articles(id),
+    language VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    excerpt TEXT,
+    body TEXT,
+    meta_title VARCHAR(500),
+    meta_description VARCHAR(500),
+    reading_time_minutes INTEGER,
+    UNIQUE (article_id, language)
+);
+
+-- Random hex keeps the bodies from compressing away in TOAST, like real prose.
+INSERT INTO articles (title, slug, excerpt, body, category_id, author_id, card_emoji, status,
+                      academic, featured, published_date, reading_time_minutes, created_at, updated_at)
+SELECT 'Eingewöhnung im Kita-Alltag ' || g, 'artikel-' || g,
+       'Wie Eingewöhnung und Sprachbildung zusammenhängen – ein Überblick für Fachkräfte.',
+       '<p>' || (SELECT string_agg(md5(g::text || k::text), ' ') FROM generate_series(1, 250) k) || '</p>',
+       1 + g % 12, 1 + g % 4, '🌱', 'PUBLISHED', g % 5 = 0, false,
+       DATE '2020-01-01' + (g % 2000), 5, now(), now()
+FROM generate_series(1, :n) g;
+
+INSERT INTO article_translations (article_id, language, title, excerpt, body, reading_time_minutes)
+SELECT a.id, l.language, l.language || ' ' || a.title, a.excerpt, a.body, 5
+FROM articles a, (VALUES ('DE'), ('PT'), ('EN')) AS l(language);
+
+CREATE INDEX idx_bench_published ON articles (status, published_date DESC, id DESC);
+ANALYZE articles;
+ANALYZE article_translations;
+
+CREATE TEMP TABLE page_ids AS
+SELECT id FROM articles WHERE status = 'PUBLISHED' ORDER BY published_date DESC, id DESC LIMIT 50;
+
+\set before 'SELECT a.*, t.* FROM articles a LEFT JOIN article_translations t ON t.article_id = a.id WHERE a.id IN (SELECT id FROM page_ids)'
+\set after 'SELECT a.id, a.title, a.slug, a.excerpt, a.card_emoji, a.cover_image_url, a.status, a.academic, a.featured, a.published_date, a.reading_time_minutes, a.category_id, a.author_id, t.id AS t_id, t.title AS t_title, t.excerpt AS t_excerpt, t.reading_time_minutes AS t_rt, d.title AS d_title, d.excerpt AS d_excerpt, d.reading_time_minutes AS d_rt FROM articles a LEFT JOIN article_translations t ON t.article_id = a.id AND t.language = ''PT'' LEFT JOIN article_translations d ON d.article_id = a.id AND d.language = ''DE'' WHERE a.id IN (SELECT id FROM page_ids)'
+\set sparse 'SELECT a.id, a.published_date, a.slug, a.card_emoji, t.id AS t_id, a.title, t.title AS t_title, d.title AS d_title FROM articles a LEFT JOIN article_translations t ON t.article_id = a.id AND t.language = ''PT'' LEFT JOIN article_translations d ON d.article_id = a.id AND d.language = ''DE'' WHERE a.id IN (SELECT id FROM page_ids)'
+
+\echo '--- before: article entity graph (articles + all translations, bodies included)'
+EXPLAIN (ANALYZE, BUFFERS) :before;
+
+\echo '--- after: body-free projection, lang=PT with DE fallback'
+EXPLAIN (ANALYZE, BUFFERS) :after;
+
+\echo '--- sparse: fields=slug,title,cardEmoji,publishedDate, lang=PT with DE fallback'
+EXPLAIN (ANALYZE, BUFFERS) :sparse;
+
+\timing on
+\o /dev/null
+\echo '--- before, five runs'
+:before; :before; :before; :before; :before;
+\echo '--- after, five runs'
+:after; :after; :after; :after; :after;
+\echo '--- sparse, five runs'
+:sparse; :sparse; :sparse; :sparse; :sparse;
+\o
+\timing off
+
+\echo '--- payload per page (bytes of row text sent to the client)'
+SELECT 'before' AS shape, sum(octet_length(x::text)) AS bytes FROM (:before) x
+UNION ALL
+SELECT 'after', sum(octet_length(x::text)) FROM (:after) x
+UNION ALL
+SELECT 'sparse', sum(octet_length(x::text)) FROM (:sparse) x;
+
+RESET search_path;
@@ -0,0 +1,141 @@
+-- TZR — search latency benchmark: JPQL LIKE scan vs. tsvector/GIN
+--
+-- Builds a throwaway schema "search_bench" with :n synthetic published articles
+-- (plus a PT translation for every second one), then times both query shapes.
+-- Run against a scratch database, once per size:
+--
+--   psql -d tzr_bench -v n=10000  -f infra/benchmarks/search-postgres.sql
+--   psql -d tzr_bench -v n=100000 -f infra/benchmarks/search-postgres.sql
+--
+-- Compare the "Execution Time" lines of the EXPLAIN ANALYZE output.
+
+\set ON_ERROR_STOP on
+\timing on
+
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+SET search_path = search_bench;
+
+CREATE TABLE articles (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    excerpt TEXT NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    published_date DATE
+);
+
+CREATE TABLE article_translations (
+    id BIGSERIAL PRIMARY KEY,
+    article_id BIGINT NOT NULL REFERENCES articles(id),
+    language VARCHAR(255) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    excerpt TEXT,
+    body TEXT,
+    UNIQUE (article_id, language)
+);
+
+-- Roughly 600 words of German-ish HTML per body, drawn from a small vocabulary.
+WITH words AS (
+    SELECT ARRAY['Kita', 'Eingewöhnung', 'Sprachbildung', 'Partizipation', 'Inklusion', 'Kinder',
+                 'Bildung', 'Übergänge', 'Natur', 'Bewegung', 'Mathematik', 'Forschen', 'Spiel',
+                 'Fachkräfte', 'Familien', 'Beobachtung', 'Dokumentation', 'Gruppe', 'Vielfalt',
+                 'Alltag', 'Medien', 'Nachhaltigkeit', 'Gesundheit', 'Kommunikation', 'Kunst'] AS w
+)
+INSERT INTO articles (title, excerpt, body, status, published_date)
+SELECT
+    w[1 + (g % 25)] || ' und ' || w[1 + ((g * 7) % 25)] || ' im Kita-Alltag ' || g,
+    'Wie ' || w[1 + ((g * 3) % 25)] || ' und ' || w[1 + ((g * 11) % 25)] || ' zusammenhängen.',
+    '<p>' || (SELECT string_agg(w[1 + ((g * k) % 25)], ' ') FROM generate_series(1, 600) k) || '</p>',
+    'PUBLISHED',
+    DATE '2020-01-01' + (g % 2000)
+FROM generate_series(1, :n) g, words;
+
+INSERT INTO article_translations (article_id, language, title, excerpt, body)
+SELECT id, 'PT', 'Adaptação e linguagem na creche ' || id, 'Como a participação se desenvolve.', body
+FROM articles WHERE id % 2 = 0;
+
+-- Same generated columns and indexes as infra/postgres/search-vectors.sql.
+ALTER TABLE articles ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('german', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('german', coalesce(excerpt, '')), 'B') ||
+    setweight(to_tsvector('german', regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g')), 'C')
+) STORED;
+CREATE INDEX idx_articles_search_vector ON articles USING GIN (search_vector);
+
+ALTER TABLE article_translations ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, coalesce(excerpt, '')), 'B') ||
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g')), 'C')
+) STORED;
+CREATE INDEX idx_article_translations_search_vector ON article_translations USING GIN (search_vector);
+
+ANALYZE articles;
+ANALYZE article_translations;
+
+\echo '--- JPQL LIKE scan (search.mode=jpql), page 0 size 12'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id FROM articles a
+WHERE a.status = 'PUBLISHED'
+  AND (lower(a.title) LIKE '%eingewöhnung%' OR lower(a.excerpt) LIKE '%eingewöhnung%' OR lower(a.body) LIKE '%eingewöhnung%')
+ORDER BY a.published_date DESC, a.id DESC
+LIMIT 12;
+
+\echo '--- JPQL count query'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(a.id) FROM articles a
+WHERE a.status = 'PUBLISHED'
+  AND (lower(a.title) LIKE '%eingewöhnung%' OR lower(a.excerpt) LIKE '%eingewöhnung%' OR lower(a.body) LIKE '%eingewöhnung%');
+
+\echo '--- tsvector/GIN (search.mode=postgres), lang=DE, page 0 size 12'
+EXPLAIN (ANALYZE, BUFFERS)
+WITH q AS (SELECT websearch_to_tsquery('german', 'Eingewöhnung') AS lq, websearch_to_tsquery('german', 'Eingewöhnung') AS dq),
+hits AS (
+    SELECT t.article_id AS id, ts_rank(t.search_vector, q.lq) AS rank, t.body AS body, 'german'::regconfig AS cfg, q.lq AS tq
+    FROM article_translations t JOIN articles a ON a.id = t.article_id, q
+    WHERE t.language = 'DE' AND a.status = 'PUBLISHED' AND t.search_vector @@ q.lq
+    UNION ALL
+    SELECT a.id, ts_rank(a.search_vector, q.dq), a.body, 'german'::regconfig, q.dq
+    FROM articles a, q
+    WHERE a.status = 'PUBLISHED' AND a.search_vector @@ q.dq
+      AND NOT EXISTS (SELECT 1 FROM article_translations t WHERE t.article_id = a.id AND t.language = 'DE')
+),
+page AS (SELECT * FROM hits ORDER BY rank DESC, id DESC LIMIT 12 OFFSET 0)
+SELECT id, ts_headline(cfg, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g'), tq,
+           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10')
+FROM page ORDER BY rank DESC, id DESC;
+
+\echo '--- tsvector/GIN count query, lang=DE'
+EXPLAIN (ANALYZE, BUFFERS)
+WITH q AS (SELECT websearch_to_tsquery('german', 'Eingewöhnung') AS lq, websearch_to_tsquery('german', 'Eingewöhnung') AS dq),
+hits AS (
+    SELECT t.article_id AS id
+    FROM article_translations t JOIN articles a ON a.id = t.article_id, q
+    WHERE t.language = 'DE' AND a.status = 'PUBLISHED' AND t.search_vector @@ q.lq
+    UNION ALL
+    SELECT a.id
+    FROM articles a, q
+    WHERE a.status = 'PUBLISHED' AND a.search_vector @@ q.dq
+      AND NOT EXISTS (SELECT 1 FROM article_translations t WHERE t.article_id = a.id AND t.language = 'DE')
+)
+SELECT count(*) FROM hits;
+
+\echo '--- tsvector/GIN (search.mode=postgres), lang=PT, page 0 size 12'
+EXPLAIN (ANALYZE, BUFFERS)
+WITH q AS (SELECT websearch_to_tsquery('portuguese', 'creche') AS lq, websearch_to_tsquery('german', 'creche') AS dq),
+hits AS (
+    SELECT t.article_id AS id, ts_rank(t.search_vector, q.lq) AS rank, t.body AS body, 'portuguese'::regconfig AS cfg, q.lq AS tq
+    FROM article_translations t JOIN articles a ON a.id = t.article_id, q
+    WHERE t.language = 'PT' AND a.status = 'PUBLISHED' AND t.search_vector @@ q.lq
+    UNION ALL
+    SELECT a.id, ts_rank(a.search_vector, q.dq), a.body, 'german'::regconfig, q.dq
+    FROM articles a, q
+    WHERE a.status = 'PUBLISHED' AND a.search_vector @@ q.dq
+      AND NOT EXISTS (SELECT 1 FROM article_translations t WHERE t.article_id = a.id AND t.language = 'PT')
+),
+page AS (SELECT * FROM hits ORDER BY rank DESC, id DESC LIMIT 12 OFFSET 0)
+SELECT id, ts_headline(cfg, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g'), tq,
+           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10')
+FROM page ORDER BY rank DESC, id DESC;
+
+RESET search_path;
@@ -0,0 +1,20 @@
+-- TZR — index for the newest-first article lists
+--
+-- The public lists order by published_date DESC NULLS LAST, id DESC: articles without a
+-- date come after every dated one, in the offset pages as in the keyset feed. Hibernate
+-- creates idx_articles_status_published_id in ascending order, which PostgreSQL scans
+-- backwards as DESC NULLS FIRST, so this replaces it under the same name (ddl-auto=update
+-- then leaves it alone). Runs after search-vectors.sql on every deploy; idempotent, and
+-- only the first run rebuilds the index.
+--
+--   docker exec -i tzr-blog-db psql -v ON_ERROR_STOP=1 -U tzr -d tzr < infra/postgres/article-feed-index.sql
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes
+                   WHERE indexname = 'idx_articles_status_published_id'
+                     AND indexdef LIKE '%published_date DESC NULLS LAST, id DESC%') THEN
+        DROP INDEX IF EXISTS idx_articles_status_published_id;
+        CREATE INDEX idx_articles_status_published_id ON articles (status, published_date DESC NULLS LAST, id DESC);
+    END IF;
+END $$;
@@ -0,0 +1,25 @@
+-- TZR — full-text search columns and indexes for search.mode=postgres
+--
+-- Generated, GIN-indexed tsvector columns on articles (German base content) and
+-- article_translations (configuration chosen by the row's language). Hibernate's
+-- ddl-auto=update cannot express generated columns, so this runs as a migration
+-- after the app has created the tables: deploy.sh and the deploy workflow pipe it
+-- into the database container on every deploy. Idempotent; only the first run
+-- rewrites the tables, holding an exclusive lock meanwhile (about 2 minutes per
+-- 100k articles, see infra/benchmarks/README.md).
+--
+--   docker exec -i tzr-blog-db psql -v ON_ERROR_STOP=1 -U tzr -d tzr < infra/postgres/search-vectors.sql
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('german', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('german', coalesce(excerpt, '')), 'B') ||
+    setweight(to_tsvector('german', regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_articles_search_vector ON articles USING GIN (search_vector);
+
+ALTER TABLE article_translations ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, coalesce(title, '')), 'A') ||
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, coalesce(excerpt, '')), 'B') ||
+    setweight(to_tsvector(CASE language WHEN 'PT' THEN 'portuguese'::regconfig WHEN 'EN' THEN 'english'::regconfig ELSE 'german'::regconfig END, regexp_replace(coalesce(body, ''), '<[^>]*>', ' ', 'g')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_article_translations_search_vector ON article_translations USING GIN (search_vector);